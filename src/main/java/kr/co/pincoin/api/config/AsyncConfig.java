@@ -1,17 +1,32 @@
 package kr.co.pincoin.api.config;
 
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
 
+/**
+ * 사가 단계와 보상 트랜잭션을 실행하는 실행기
+ * spring.threads.virtual.enabled=true 이면 작업마다 가상 스레드를 생성하며,
+ * 동시 DB 작업 수는 커넥션 풀 크기로 제한됨
+ */
 @Configuration
 @EnableAsync
 public class AsyncConfig {
     @Bean
-    public Executor asyncExecutor() {
+    public Executor asyncExecutor(Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("AsyncAPI-");
+            executor.setVirtualThreads(true);
+            executor.setTaskTerminationTimeout(10_000L);
+            return executor;
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(5);
         executor.setMaxPoolSize(10);
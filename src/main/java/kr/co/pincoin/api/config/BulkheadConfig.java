@@ -0,0 +1,44 @@
+package kr.co.pincoin.api.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.co.pincoin.api.resilience.Bulkhead;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * 외부 연동별 전용 실행기 (벌크헤드)
+ * 설정은 resilience.bulkhead.{이름}.* 으로 연동마다 따로 지정
+ * spring.threads.virtual.enabled=true 이면 가상 스레드로 실행
+ */
+@Configuration
+public class BulkheadConfig {
+    @Bean
+    public Bulkhead externalApiBulkhead(Environment environment, MeterRegistry meterRegistry) {
+        return bulkhead("external-api", environment, meterRegistry, 20, 50);
+    }
+
+    /**
+     * 보상 릴레이의 취소 호출 전용 (장애 후 쌓인 취소가 주문의 외부 API 벌크헤드를 채우지 않도록 분리)
+     */
+    @Bean
+    public Bulkhead compensationBulkhead(Environment environment, MeterRegistry meterRegistry) {
+        return bulkhead("compensation", environment, meterRegistry, 4, 20);
+    }
+
+    @Bean
+    public Bulkhead notificationBulkhead(Environment environment, MeterRegistry meterRegistry) {
+        return bulkhead("notification", environment, meterRegistry, 10, 100);
+    }
+
+    private static Bulkhead bulkhead(String name, Environment environment, MeterRegistry meterRegistry,
+                                     int defaultMaxConcurrentCalls, int defaultQueueCapacity) {
+        String prefix = "resilience.bulkhead." + name + ".";
+        return new Bulkhead(name,
+                environment.getProperty(prefix + "max-concurrent-calls", Integer.class, defaultMaxConcurrentCalls),
+                environment.getProperty(prefix + "queue-capacity", Integer.class, defaultQueueCapacity),
+                Threading.VIRTUAL.isActive(environment),
+                meterRegistry);
+    }
+}
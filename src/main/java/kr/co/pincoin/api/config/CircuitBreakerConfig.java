@@ -0,0 +1,40 @@
+package kr.co.pincoin.api.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.co.pincoin.api.resilience.CircuitBreaker;
+import kr.co.pincoin.api.resilience.CircuitBreakerSettings;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+/**
+ * 외부 연동별 서킷 브레이커
+ * 설정은 resilience.circuit-breaker.{이름}.* 으로 연동마다 따로 지정
+ */
+@Configuration
+public class CircuitBreakerConfig {
+    @Bean
+    public CircuitBreaker externalApiCircuitBreaker(Environment environment, MeterRegistry meterRegistry) {
+        return new CircuitBreaker("external-api", settings(environment, "external-api"), meterRegistry);
+    }
+
+    @Bean
+    public CircuitBreaker notificationCircuitBreaker(Environment environment, MeterRegistry meterRegistry) {
+        return new CircuitBreaker("notification", settings(environment, "notification"), meterRegistry);
+    }
+
+    private static CircuitBreakerSettings settings(Environment environment, String name) {
+        String prefix = "resilience.circuit-breaker." + name + ".";
+        return CircuitBreakerSettings.builder()
+                .windowSize(environment.getProperty(prefix + "window-size", Integer.class, 50))
+                .minimumCalls(environment.getProperty(prefix + "minimum-calls", Integer.class, 20))
+                .failureRateThreshold(environment.getProperty(prefix + "failure-rate-threshold", Double.class, 80.0))
+                .slowCallRateThreshold(environment.getProperty(prefix + "slow-call-rate-threshold", Double.class, 80.0))
+                .slowCallDuration(environment.getProperty(prefix + "slow-call-duration", Duration.class, Duration.ofSeconds(5)))
+                .openDuration(environment.getProperty(prefix + "open-duration", Duration.class, Duration.ofSeconds(10)))
+                .halfOpenCalls(environment.getProperty(prefix + "half-open-calls", Integer.class, 5))
+                .build();
+    }
+}
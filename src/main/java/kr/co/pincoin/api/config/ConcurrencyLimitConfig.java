@@ -0,0 +1,43 @@
+package kr.co.pincoin.api.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.co.pincoin.api.resilience.ConcurrencyLimitFilter;
+import kr.co.pincoin.api.resilience.ConcurrencyLimitSettings;
+import kr.co.pincoin.api.resilience.ConcurrencyLimiter;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * 주문 처리 엔드포인트의 적응형 동시 처리 한도
+ * 설정은 resilience.concurrency-limit.orders.* 으로 지정
+ */
+@Configuration
+public class ConcurrencyLimitConfig {
+    private static final String PREFIX = "resilience.concurrency-limit.orders.";
+
+    @Bean
+    public ConcurrencyLimiter orderConcurrencyLimiter(Environment environment, MeterRegistry meterRegistry) {
+        return new ConcurrencyLimiter("orders", ConcurrencyLimitSettings.builder()
+                .initialLimit(environment.getProperty(PREFIX + "initial-limit", Integer.class, 20))
+                .minLimit(environment.getProperty(PREFIX + "min-limit", Integer.class, 5))
+                .maxLimit(environment.getProperty(PREFIX + "max-limit", Integer.class, 200))
+                .smoothing(environment.getProperty(PREFIX + "smoothing", Double.class, 1.0))
+                .backoffRatio(environment.getProperty(PREFIX + "backoff-ratio", Double.class, 0.9))
+                .probeInterval(environment.getProperty(PREFIX + "probe-interval", Integer.class, 1000))
+                .build(), meterRegistry);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> orderConcurrencyLimitFilter(
+            ConcurrencyLimiter orderConcurrencyLimiter, Environment environment) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+                new ConcurrencyLimitFilter(orderConcurrencyLimiter,
+                        environment.getProperty(PREFIX + "retry-after-seconds", Long.class, 1L)));
+        // 일괄 접수는 요청 하나가 여러 주문을 오래 처리하므로 지연시간 표본에서 제외
+        registration.addUrlPatterns("/orders/facade", "/orders/transaction-script");
+        registration.setEnabled(environment.getProperty(PREFIX + "enabled", Boolean.class, true));
+        return registration;
+    }
+}
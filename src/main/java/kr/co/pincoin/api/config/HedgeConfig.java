@@ -0,0 +1,32 @@
+package kr.co.pincoin.api.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.co.pincoin.api.resilience.Bulkhead;
+import kr.co.pincoin.api.resilience.HedgeSettings;
+import kr.co.pincoin.api.resilience.Hedger;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+/**
+ * 첫 번째 외부 API 호출의 헤지 요청
+ * 설정은 resilience.hedge.external-api.* 으로 지정하며 기본값은 사용하지 않음
+ */
+@Configuration
+public class HedgeConfig {
+    private static final String PREFIX = "resilience.hedge.external-api.";
+
+    @Bean
+    public Hedger externalApiHedger(Bulkhead externalApiBulkhead, Environment environment, MeterRegistry meterRegistry) {
+        return new Hedger("external-api", HedgeSettings.builder()
+                .enabled(environment.getProperty(PREFIX + "enabled", Boolean.class, false))
+                .percentile(environment.getProperty(PREFIX + "percentile", Double.class, 0.95))
+                .minDelay(environment.getProperty(PREFIX + "min-delay", Duration.class, Duration.ofMillis(50)))
+                .budgetRatio(environment.getProperty(PREFIX + "budget-ratio", Double.class, 0.05))
+                .windowSize(environment.getProperty(PREFIX + "window-size", Integer.class, 1000))
+                .minSamples(environment.getProperty(PREFIX + "min-samples", Integer.class, 100))
+                .build(), externalApiBulkhead, meterRegistry);
+    }
+}
@@ -0,0 +1,61 @@
+package kr.co.pincoin.api.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.co.pincoin.api.exception.BulkheadFullException;
+import kr.co.pincoin.api.exception.CircuitOpenException;
+import kr.co.pincoin.api.exception.DeadlineExceededException;
+import kr.co.pincoin.api.exception.ExternalAPIException;
+import kr.co.pincoin.api.exception.NotificationAPIException;
+import kr.co.pincoin.api.resilience.Retrier;
+import kr.co.pincoin.api.resilience.RetryPolicy;
+import kr.co.pincoin.api.resilience.RetrySettings;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 외부 연동별 재시도
+ * 설정은 resilience.retry.{이름}.* 으로 연동마다 따로 지정
+ * 서킷 열림, 벌크헤드 포화, 마감 시각 초과는 재시도가 부하만 늘리므로 재시도하지 않음
+ */
+@Configuration
+public class RetryConfig {
+    @Bean
+    public Retrier externalApiRetrier(Environment environment, MeterRegistry meterRegistry) {
+        return retrier("external-api", ExternalAPIException.class, environment, meterRegistry);
+    }
+
+    /**
+     * 보상 릴레이의 취소 호출 전용 (취소 재시도가 주문의 외부 API 재시도 예산을 쓰지 않도록 분리)
+     */
+    @Bean
+    public Retrier compensationRetrier(Environment environment, MeterRegistry meterRegistry) {
+        return retrier("compensation", ExternalAPIException.class, environment, meterRegistry);
+    }
+
+    @Bean
+    public Retrier notificationRetrier(Environment environment, MeterRegistry meterRegistry) {
+        // 직렬화나 서명 실패 같은 프로그래밍 오류는 재시도하지 않음
+        return retrier("notification", NotificationAPIException.class, environment, meterRegistry);
+    }
+
+    private static Retrier retrier(String name, Class<? extends Throwable> retryableType, Environment environment,
+                                   MeterRegistry meterRegistry) {
+        String prefix = "resilience.retry." + name + ".";
+        return new Retrier(name, RetrySettings.builder()
+                .policies(List.of(
+                        RetryPolicy.never(CircuitOpenException.class),
+                        RetryPolicy.never(BulkheadFullException.class),
+                        RetryPolicy.never(DeadlineExceededException.class),
+                        RetryPolicy.retry(retryableType,
+                                environment.getProperty(prefix + "max-attempts", Integer.class, 3),
+                                environment.getProperty(prefix + "base-delay", Duration.class, Duration.ofMillis(100)),
+                                environment.getProperty(prefix + "max-delay", Duration.class, Duration.ofSeconds(2)))))
+                .budgetRatio(environment.getProperty(prefix + "budget-ratio", Double.class, 0.1))
+                .budgetBurst(environment.getProperty(prefix + "budget-burst", Integer.class, 10))
+                .build(), meterRegistry);
+    }
+}
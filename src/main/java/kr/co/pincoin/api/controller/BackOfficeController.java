@@ -0,0 +1,61 @@
+package kr.co.pincoin.api.controller;
+
+import kr.co.pincoin.api.dto.KeysetPage;
+import kr.co.pincoin.api.dto.OrderSummary;
+import kr.co.pincoin.api.dto.PaymentSummary;
+import kr.co.pincoin.api.enums.OrderStatus;
+import kr.co.pincoin.api.enums.PaymentStatus;
+import kr.co.pincoin.api.service.OrderListingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 백오피스용 주문/결제 목록 조회 REST 컨트롤러
+ * 최신 항목부터 조회하며, 다음 페이지는 응답의 nextCursor를 cursor 파라미터로 전달하여 조회
+ */
+@RestController
+@RequestMapping("/admin")
+@RequiredArgsConstructor
+public class BackOfficeController {
+    private final OrderListingService orderListingService;
+
+    /**
+     * 생성 시각 내림차순 주문 목록
+     *
+     * @param status 주문 상태 필터 (없으면 전체)
+     * @param cursor 직전 응답의 nextCursor (없으면 첫 페이지)
+     * @param size   페이지 크기
+     * @return 주문 목록과 다음 페이지 커서
+     */
+    @GetMapping("/orders")
+    public KeysetPage<OrderSummary> findOrders(@RequestParam(required = false) OrderStatus status,
+                                               @RequestParam(required = false) String cursor,
+                                               @RequestParam(defaultValue = "50") int size) {
+        return orderListingService.findOrders(status, cursor, size);
+    }
+
+    /**
+     * 처리 시각 내림차순 결제 목록
+     *
+     * @param status 결제 상태 필터 (없으면 전체)
+     * @param cursor 직전 응답의 nextCursor (없으면 첫 페이지)
+     * @param size   페이지 크기
+     * @return 결제 목록과 다음 페이지 커서
+     */
+    @GetMapping("/payments")
+    public KeysetPage<PaymentSummary> findPayments(@RequestParam(required = false) PaymentStatus status,
+                                                   @RequestParam(required = false) String cursor,
+                                                   @RequestParam(defaultValue = "50") int size) {
+        return orderListingService.findPayments(status, cursor, size);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleInvalidArgument(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+}
@@ -0,0 +1,51 @@
+package kr.co.pincoin.api.controller;
+
+import kr.co.pincoin.api.dto.DeadLetterResponse;
+import kr.co.pincoin.api.service.CompensationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 끝내 취소하지 못한 외부 API 보상(dead letter)을 확인하고 재처리하는 관리자용 REST 컨트롤러
+ * 외부 API 장애가 복구된 뒤 재처리하면 CompensationRelay가 처음부터 다시 취소를 시도
+ */
+@RestController
+@RequestMapping("/admin/compensations/dead-letters")
+@RequiredArgsConstructor
+@Slf4j
+public class CompensationAdminController {
+    private final CompensationService compensationService;
+
+    /**
+     * 오래된 순으로 dead letter 조회
+     *
+     * @param limit 최대 조회 건수
+     * @return dead letter 목록 (마지막 실패 원인 포함)
+     */
+    @GetMapping
+    public List<DeadLetterResponse> findDeadLetters(@RequestParam(defaultValue = "100") int limit) {
+        return compensationService.findDeadLetters(limit);
+    }
+
+    /**
+     * 오래된 순으로 최대 limit건의 dead letter를 취소 대기열로 되돌림
+     *
+     * @param limit 최대 재처리 건수
+     * @return 되돌린 건수
+     */
+    @PostMapping("/replay")
+    public ResponseEntity<Map<String, Integer>> replayDeadLetters(@RequestParam(defaultValue = "1000") int limit) {
+        int replayed = compensationService.replayDeadLetters(limit);
+        log.info("Dead-lettered cancellations replayed by admin: {}", replayed);
+        return ResponseEntity.ok(Map.of("replayed", replayed));
+    }
+}
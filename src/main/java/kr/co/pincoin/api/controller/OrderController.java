@@ -1,20 +1,50 @@
 package kr.co.pincoin.api.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import kr.co.pincoin.api.diagnostics.ServerTiming;
 import kr.co.pincoin.api.dto.OrderRequest;
+import kr.co.pincoin.api.dto.OrderResult;
+import kr.co.pincoin.api.dto.OrderStatusResponse;
+import kr.co.pincoin.api.enums.OrderStatus;
+import kr.co.pincoin.api.exception.BulkheadFullException;
+import kr.co.pincoin.api.exception.CircuitOpenException;
+import kr.co.pincoin.api.exception.DeadlineExceededException;
+import kr.co.pincoin.api.exception.DuplicateOrderException;
 import kr.co.pincoin.api.exception.ExternalAPIException;
 import kr.co.pincoin.api.exception.OrderProcessingException;
 import kr.co.pincoin.api.exception.PaymentProcessingException;
+import kr.co.pincoin.api.resilience.Deadline;
+import kr.co.pincoin.api.resilience.Futures;
+import kr.co.pincoin.api.service.OrderBatchService;
 import kr.co.pincoin.api.service.OrderFacade;
 import kr.co.pincoin.api.service.OrderProcessingService;
+import kr.co.pincoin.api.service.OrderStatusService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
 /**
  * 주문 처리를 위한 REST 컨트롤러
  * 두 가지 다른 아키텍처 패턴(퍼사드와 트랜잭션 스크립트)을 통한 주문 처리를 비교 제공
@@ -36,14 +66,37 @@ import org.springframework.web.bind.annotation.RestController;
  * 4. 확장성
  *    - 트랜잭션 스크립트: 확장이 어려움
  *    - 퍼사드: 새로운 기능 추가가 용이
+ *
+ * 두 엔드포인트 모두 CompletableFuture를 반환하여 외부 API 응답을 기다리는 동안 요청 스레드를 반환
+ * 처리 마감 시각은 X-Request-Timeout 헤더(ms)로 지정하며, 없으면 엔드포인트별 기본값 (최대 order.deadline.max-timeout)
+ * order.server-timing.sample-rate 비율의 요청은 단계별 소요 시간을 Server-Timing 헤더로 응답
+ * 일괄 접수 엔드포인트(/orders/batch)는 요청 본문과 응답을 스트림으로 처리
+ * 주문 상태 조회 엔드포인트(/orders/{orderId})는 캐시에서 바로 응답하도록 동기 방식으로 처리
  */
 @RestController
 @RequestMapping("/orders")
 @RequiredArgsConstructor
 @Slf4j
 public class OrderController {
+    private static final String REQUEST_TIMEOUT_HEADER = "X-Request-Timeout";
+
     private final OrderFacade orderFacade;
     private final OrderProcessingService orderProcessingService;
+    private final OrderBatchService orderBatchService;
+    private final OrderStatusService orderStatusService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${order.deadline.facade-timeout:${order.deadline.default-timeout:30s}}")
+    private Duration facadeTimeout;
+
+    @Value("${order.deadline.transaction-script-timeout:${order.deadline.default-timeout:30s}}")
+    private Duration transactionScriptTimeout;
+
+    @Value("${order.deadline.max-timeout:60s}")
+    private Duration maxTimeout;
+
+    @Value("${order.server-timing.sample-rate:0.0}")
+    private double serverTimingSampleRate;
 
     /**
      * 퍼사드 패턴을 사용한 주문 처리 엔드포인트
@@ -52,18 +105,23 @@ public class OrderController {
      * - 각 서비스가 독립적인 책임을 가짐 (SRP 원칙)
      * - 높은 응집도, 낮은 결합도
      *
-     * @param request 주문 요청 데이터
-     * @return 처리 결과 응답
+     * @param request          주문 요청 데이터
+     * @param requestTimeoutMs 클라이언트가 응답을 기다리는 시간 (ms)
+     * @return 처리 결과 응답 (비동기)
      */
     @PostMapping("/facade")
-    public ResponseEntity<String> processOrderFacade(@RequestBody OrderRequest request) {
-        try {
-            orderFacade.processOrder(request);
-            return ResponseEntity.ok("Order processed successfully with Facade pattern");
-        } catch (Exception e) {
-            log.error("Order processing failed with Facade pattern", e);
-            return handleError(e);
-        }
+    public CompletableFuture<ResponseEntity<String>> processOrderFacade(
+            @RequestBody OrderRequest request,
+            @RequestHeader(value = REQUEST_TIMEOUT_HEADER, required = false) Long requestTimeoutMs) {
+        ServerTiming serverTiming = serverTiming();
+        CompletableFuture<ResponseEntity<String>> response = orderFacade
+                .processOrderAsync(request, deadline(requestTimeoutMs, facadeTimeout), serverTiming)
+                .thenApply(result -> respond(result, "Order processed successfully with Facade pattern"))
+                .exceptionally(e -> {
+                    log.error("Order processing failed with Facade pattern", e);
+                    return handleError(Futures.unwrap(e));
+                });
+        return withServerTiming(response, serverTiming);
     }
 
     /**
@@ -73,21 +131,125 @@ public class OrderController {
      * - 단순한 CRUD 작업에 적합
      * - 모든 로직이 하나의 서비스 클래스에 집중
      *
-     * @param request 주문 요청 데이터
-     * @return 처리 결과 응답
+     * @param request          주문 요청 데이터
+     * @param requestTimeoutMs 클라이언트가 응답을 기다리는 시간 (ms)
+     * @return 처리 결과 응답 (비동기)
      */
     @PostMapping("/transaction-script")
-    public ResponseEntity<String> processOrderTransactionScript(@RequestBody OrderRequest request) {
+    public CompletableFuture<ResponseEntity<String>> processOrderTransactionScript(
+            @RequestBody OrderRequest request,
+            @RequestHeader(value = REQUEST_TIMEOUT_HEADER, required = false) Long requestTimeoutMs) {
+        ServerTiming serverTiming = serverTiming();
+        CompletableFuture<ResponseEntity<String>> response = orderProcessingService
+                .processOrderAsync(request, deadline(requestTimeoutMs, transactionScriptTimeout), serverTiming)
+                .thenApply(result -> respond(result, "Order processed successfully with Transaction Script pattern"))
+                .exceptionally(e -> {
+                    log.error("Order processing failed with Transaction Script pattern", e);
+                    return handleError(Futures.unwrap(e));
+                });
+        return withServerTiming(response, serverTiming);
+    }
+
+    /**
+     * 주문 일괄 접수 엔드포인트
+     * JSON 배열 또는 NDJSON 본문을 스트림으로 읽어 퍼사드 패턴으로 처리하고,
+     * 주문별 결과를 완료되는 순서대로 NDJSON으로 응답
+     *
+     * @param body     주문 요청 본문
+     * @param response 주문별 처리 결과를 기록할 응답
+     */
+    @PostMapping(value = "/batch", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public void processOrderBatch(InputStream body, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        PrintWriter writer = response.getWriter();
+        // 소켓 쓰기 중 가상 스레드가 캐리어 스레드에 고정되지 않도록 synchronized 대신 사용
+        ReentrantLock writeLock = new ReentrantLock();
+        orderBatchService.processBatch(body, result -> writeLine(writer, writeLock, result));
+    }
+
+    /**
+     * 주문과 결제 상태 조회 엔드포인트
+     * 캐시에 있으면 DB 조회 없이 응답하므로 상태를 주기적으로 확인하는 클라이언트에 적합
+     *
+     * @param orderId 주문번호
+     * @return 주문과 결제 상태, 주문이 없으면 404
+     */
+    @GetMapping("/{orderId}")
+    public ResponseEntity<OrderStatusResponse> findOrderStatus(@PathVariable String orderId) {
+        try {
+            return orderStatusService.findOrderStatus(orderId)
+                    .map(ResponseEntity::ok)
+                    .orElseGet(() -> ResponseEntity.notFound().build());
+        } catch (RuntimeException e) {
+            log.error("Order status lookup failed: {}", orderId, e);
+            return ResponseEntity.status(determineHttpStatus(e)).build();
+        }
+    }
+
+    private void writeLine(PrintWriter writer, ReentrantLock writeLock, OrderResult result) {
         try {
-            orderProcessingService.processOrder(request);
-            return ResponseEntity.ok("Order processed successfully with Transaction Script pattern");
-        } catch (Exception e) {
-            log.error("Order processing failed with Transaction Script pattern", e);
-            return handleError(e);
+            String line = objectMapper.writeValueAsString(result);
+            writeLock.lock();
+            try {
+                writer.write(line);
+                writer.write('\n');
+                writer.flush();
+            } finally {
+                writeLock.unlock();
+            }
+        } catch (JsonProcessingException e) {
+            log.error("Failed to write order result: {}", result.getOrderId(), e);
+        }
+    }
+
+    /**
+     * 요청이 지정한 시간과 엔드포인트 기본값 중 하나로 마감 시각 결정
+     * 클라이언트가 지정한 시간도 max-timeout을 넘을 수 없음
+     */
+    private Deadline deadline(Long requestTimeoutMs, Duration defaultTimeout) {
+        Duration timeout = requestTimeoutMs != null && requestTimeoutMs > 0
+                ? Duration.ofMillis(requestTimeoutMs)
+                : defaultTimeout;
+        return Deadline.after(timeout.compareTo(maxTimeout) > 0 ? maxTimeout : timeout);
+    }
+
+    /**
+     * sample-rate 확률로 단계별 소요 시간을 기록할 요청을 고름 (0이면 난수도 만들지 않음)
+     */
+    private ServerTiming serverTiming() {
+        return serverTimingSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < serverTimingSampleRate
+                ? ServerTiming.start()
+                : ServerTiming.disabled();
+    }
+
+    /**
+     * 표본으로 뽑힌 요청의 응답에만 Server-Timing 헤더를 추가 (표본이 아니면 Future를 그대로 반환)
+     */
+    private static CompletableFuture<ResponseEntity<String>> withServerTiming(
+            CompletableFuture<ResponseEntity<String>> response, ServerTiming serverTiming) {
+        if (!serverTiming.isEnabled()) {
+            return response;
         }
+        return response.thenApply(entity -> ResponseEntity.status(entity.getStatusCode())
+                .headers(entity.getHeaders())
+                .header(ServerTiming.HEADER, serverTiming.toHeaderValue())
+                .body(entity.getBody()));
     }
 
-    private ResponseEntity<String> handleError(Exception e) {
+    /**
+     * 처리 결과 응답
+     * 이미 실패 처리된 주문번호로 다시 요청하면 저장된 실패 결과를 409 ORDER_FAILED로 응답 (새 주문번호로 다시 요청해야 함)
+     */
+    private static ResponseEntity<String> respond(OrderResult result, String successMessage) {
+        if (result.getStatus() == OrderStatus.FAILED) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(String.format("Order processing failed (ORDER_FAILED): %s", result.getError()));
+        }
+        return ResponseEntity.ok(successMessage);
+    }
+
+    private ResponseEntity<String> handleError(Throwable e) {
         HttpStatus status = determineHttpStatus(e);
         String errorMessage = String.format("Order processing failed (%s): %s",
                                             determineErrorCode(e),
@@ -95,8 +257,13 @@ public class OrderController {
         return ResponseEntity.status(status).body(errorMessage);
     }
 
-    private String determineErrorCode(Exception e) {
+    private String determineErrorCode(Throwable e) {
         return switch (e) {
+            case Throwable t when isCausedBy(t, DeadlineExceededException.class) -> "DEADLINE_EXCEEDED";
+            case Throwable t when isCausedBy(t, CircuitOpenException.class) -> "CIRCUIT_OPEN";
+            case Throwable t when isCausedBy(t, BulkheadFullException.class) -> "BULKHEAD_FULL";
+            case Throwable t when isCausedBy(t, RejectedExecutionException.class) -> "SERVICE_OVERLOADED";
+            case OrderProcessingException ope when ope.getCause() instanceof DuplicateOrderException -> "DUPLICATE_ORDER";
             case OrderProcessingException _ -> "ORDER_PROCESSING_ERROR";
             case PaymentProcessingException _ -> "PAYMENT_PROCESSING_ERROR";
             case ExternalAPIException _ -> "EXTERNAL_API_ERROR";
@@ -104,12 +271,26 @@ public class OrderController {
         };
     }
 
-    private HttpStatus determineHttpStatus(Exception e) {
+    private HttpStatus determineHttpStatus(Throwable e) {
         return switch (e) {
+            case Throwable t when isCausedBy(t, DeadlineExceededException.class) -> HttpStatus.GATEWAY_TIMEOUT;
+            case Throwable t when isCausedBy(t, CircuitOpenException.class) -> HttpStatus.SERVICE_UNAVAILABLE;
+            case Throwable t when isCausedBy(t, BulkheadFullException.class) -> HttpStatus.TOO_MANY_REQUESTS;
+            case Throwable t when isCausedBy(t, RejectedExecutionException.class) -> HttpStatus.SERVICE_UNAVAILABLE;
+            case OrderProcessingException ope when ope.getCause() instanceof DuplicateOrderException -> HttpStatus.CONFLICT;
             case OrderProcessingException _ -> HttpStatus.BAD_REQUEST;
             case PaymentProcessingException _ -> HttpStatus.BAD_GATEWAY;
             case ExternalAPIException _ -> HttpStatus.SERVICE_UNAVAILABLE;
             default -> HttpStatus.INTERNAL_SERVER_ERROR;
         };
     }
+
+    private static boolean isCausedBy(Throwable e, Class<? extends Throwable> type) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (type.isInstance(cause)) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
\ No newline at end of file
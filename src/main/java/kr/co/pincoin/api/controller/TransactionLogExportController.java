@@ -0,0 +1,65 @@
+package kr.co.pincoin.api.controller;
+
+import jakarta.servlet.http.HttpServletResponse;
+import kr.co.pincoin.api.service.TransactionLogExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 감사용 트랜잭션 로그 내보내기 REST 컨트롤러
+ * 조건에 맞는 transaction_logs 전체를 NDJSON 파일로 스트리밍하며, gzip=true이면 gzip으로 압축
+ */
+@RestController
+@RequestMapping("/admin/transaction-logs")
+@RequiredArgsConstructor
+public class TransactionLogExportController {
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private final TransactionLogExportService transactionLogExportService;
+
+    /**
+     * 트랜잭션 로그 내보내기
+     *
+     * @param orderId  주문번호 필터
+     * @param action   작업 이름 필터
+     * @param from     이 시각 이후 기록 (포함, ISO-8601)
+     * @param to       이 시각 이전 기록 (미포함, ISO-8601)
+     * @param gzip     gzip 압축 여부
+     * @param response 로그를 기록할 응답
+     */
+    @GetMapping("/export")
+    public void export(@RequestParam(required = false) String orderId,
+                       @RequestParam(required = false) String action,
+                       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                       @RequestParam(defaultValue = "false") boolean gzip,
+                       HttpServletResponse response) throws IOException {
+        String filename = gzip ? "transaction-logs.ndjson.gz" : "transaction-logs.ndjson";
+        response.setContentType(gzip ? "application/gzip" : MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(filename).build().toString());
+
+        OutputStream body = response.getOutputStream();
+        if (!gzip) {
+            transactionLogExportService.export(orderId, action, from, to, body);
+            return;
+        }
+        GZIPOutputStream compressed = new GZIPOutputStream(body, GZIP_BUFFER_SIZE);
+        transactionLogExportService.export(orderId, action, from, to, compressed);
+        compressed.finish();
+    }
+}
@@ -0,0 +1,24 @@
+package kr.co.pincoin.api.diagnostics;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 사가 단계 하나의 보상 (외부 API 취소는 보상 큐 기록까지)
+ */
+@Name("kr.co.pincoin.order.Compensation")
+@Label("Compensation")
+public class CompensationEvent extends OrderPipelineEvent {
+    @Label("Step")
+    private String step;
+
+    private CompensationEvent(String step) {
+        this.step = step;
+    }
+
+    public static CompensationEvent start(String step) {
+        CompensationEvent event = new CompensationEvent(step);
+        event.begin();
+        return event;
+    }
+}
@@ -0,0 +1,30 @@
+package kr.co.pincoin.api.diagnostics;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 외부 API 호출 한 번 (헤지 요청과 재시도는 각각 별도 이벤트)
+ */
+@Name("kr.co.pincoin.order.ExternalCall")
+@Label("External Call")
+public class ExternalCallEvent extends OrderPipelineEvent {
+    public static final String PROCESS = "process";
+
+    public static final String CANCEL = "cancel";
+
+    public static final String CANCEL_REFERENCE = "cancel-reference";
+
+    @Label("Operation")
+    private String operation;
+
+    private ExternalCallEvent(String operation) {
+        this.operation = operation;
+    }
+
+    public static ExternalCallEvent start(String operation) {
+        ExternalCallEvent event = new ExternalCallEvent(operation);
+        event.begin();
+        return event;
+    }
+}
@@ -0,0 +1,37 @@
+package kr.co.pincoin.api.diagnostics;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import kr.co.pincoin.api.dto.OrderRequest;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 알림 API 호출 한 번 (묶음 호출의 주문번호는 쉼표로 연결)
+ */
+@Name("kr.co.pincoin.order.Notification")
+@Label("Notification")
+public class NotificationEvent extends OrderPipelineEvent {
+    @Label("Order Count")
+    private int orderCount;
+
+    public static NotificationEvent start() {
+        NotificationEvent event = new NotificationEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * 구간을 끝내고 녹화 중인 경우에만 주문번호를 연결하여 기록
+     */
+    public void finish(List<OrderRequest> requests, boolean success) {
+        end();
+        if (shouldCommit()) {
+            this.orderId = requests.stream().map(OrderRequest::getOrderId).collect(Collectors.joining(","));
+            this.orderCount = requests.size();
+            this.outcome = success ? SUCCESS : FAILURE;
+            commit();
+        }
+    }
+}
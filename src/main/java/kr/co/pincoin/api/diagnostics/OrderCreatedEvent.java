@@ -0,0 +1,17 @@
+package kr.co.pincoin.api.diagnostics;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 주문 저장 (1단계)
+ */
+@Name("kr.co.pincoin.order.OrderCreated")
+@Label("Order Created")
+public class OrderCreatedEvent extends OrderPipelineEvent {
+    public static OrderCreatedEvent start() {
+        OrderCreatedEvent event = new OrderCreatedEvent();
+        event.begin();
+        return event;
+    }
+}
@@ -0,0 +1,148 @@
+package kr.co.pincoin.api.diagnostics;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * JFR 녹화 파일에서 주문 처리 이벤트(kr.co.pincoin.order.*)를 읽어 요약하는 명령행 도구
+ * <p>
+ * - 구간별(외부 API는 호출 종류별, 보상은 단계별) 건수, 실패 건수, p50/p90/p99/최대 소요 시간
+ * - 첫 이벤트 시작부터 마지막 이벤트 종료까지가 가장 긴 주문 N건과 구간별 소요 시간
+ * (알림은 커밋 이후 outbox 릴레이가 따로 보내므로 주문 처리 시간에 넣지 않음)
+ * <p>
+ * 사용법: OrderEventReport &lt;recording.jfr&gt; [slowest-order-count, 기본 10]
+ */
+public final class OrderEventReport {
+    private static final String EVENT_PREFIX = "kr.co.pincoin.order.";
+
+    private static final String NOTIFICATION = EVENT_PREFIX + "Notification";
+
+    private static final int DEFAULT_SLOWEST_ORDERS = 10;
+
+    private OrderEventReport() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: OrderEventReport <recording.jfr> [slowest-order-count]");
+            System.exit(1);
+        }
+        int slowestOrders = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_SLOWEST_ORDERS;
+
+        Map<String, List<RecordedEvent>> byStage = new TreeMap<>();
+        Map<String, OrderSpan> byOrder = new HashMap<>();
+        for (RecordedEvent event : RecordingFile.readAllEvents(Path.of(args[0]))) {
+            String type = event.getEventType().getName();
+            if (!type.startsWith(EVENT_PREFIX)) {
+                continue;
+            }
+            String stage = stage(event);
+            byStage.computeIfAbsent(stage, key -> new ArrayList<>()).add(event);
+            if (!type.equals(NOTIFICATION) && event.getString("orderId") != null) {
+                byOrder.computeIfAbsent(event.getString("orderId"), OrderSpan::new).add(stage, event);
+            }
+        }
+
+        PrintStream out = System.out;
+        printStages(out, byStage);
+        out.println();
+        printSlowestOrders(out, byOrder, slowestOrders);
+    }
+
+    /**
+     * 이벤트 종류에 호출 종류나 보상 단계를 붙인 구간 이름 (예: ExternalCall[process], Compensation[CREATE_ORDER])
+     */
+    private static String stage(RecordedEvent event) {
+        String name = event.getEventType().getName().substring(EVENT_PREFIX.length());
+        if (event.hasField("operation")) {
+            return name + "[" + event.getString("operation") + "]";
+        }
+        if (event.hasField("step")) {
+            return name + "[" + event.getString("step") + "]";
+        }
+        return name;
+    }
+
+    private static void printStages(PrintStream out, Map<String, List<RecordedEvent>> byStage) {
+        out.printf("%-36s %8s %8s %10s %10s %10s %10s%n", "stage", "count", "failed", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)");
+        byStage.forEach((stage, events) -> {
+            long[] nanos = events.stream().mapToLong(event -> event.getDuration().toNanos()).sorted().toArray();
+            long failed = events.stream().filter(event -> OrderPipelineEvent.FAILURE.equals(event.getString("outcome"))).count();
+            out.printf("%-36s %8d %8d %10.1f %10.1f %10.1f %10.1f%n", stage, nanos.length, failed,
+                    millis(percentile(nanos, 0.50)), millis(percentile(nanos, 0.90)),
+                    millis(percentile(nanos, 0.99)), millis(nanos[nanos.length - 1]));
+        });
+    }
+
+    private static void printSlowestOrders(PrintStream out, Map<String, OrderSpan> byOrder, int limit) {
+        out.printf("slowest %d orders (of %d)%n", Math.min(limit, byOrder.size()), byOrder.size());
+        byOrder.values().stream()
+                .sorted(Comparator.comparing(OrderSpan::elapsed).reversed())
+                .limit(limit)
+                .forEach(order -> {
+                    StringBuilder stages = new StringBuilder();
+                    order.stageNanos.forEach((stage, nanos) ->
+                            stages.append(String.format(" %s=%.1f", stage, millis(nanos))));
+                    out.printf("%-40s %10.1f ms %-7s%s%n", order.orderId, millis(order.elapsed().toNanos()),
+                            order.failed ? OrderPipelineEvent.FAILURE : OrderPipelineEvent.SUCCESS, stages);
+                });
+    }
+
+    /**
+     * nearest-rank 방식의 백분위 (정렬된 배열)
+     */
+    private static long percentile(long[] sorted, double quantile) {
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    /**
+     * 주문 하나의 첫 이벤트 시작부터 마지막 이벤트 종료까지와 구간별 소요 시간 합
+     */
+    private static class OrderSpan {
+        private final String orderId;
+
+        private final Map<String, Long> stageNanos = new TreeMap<>();
+
+        private Instant start;
+
+        private Instant end;
+
+        private boolean failed;
+
+        OrderSpan(String orderId) {
+            this.orderId = orderId;
+        }
+
+        void add(String stage, RecordedEvent event) {
+            stageNanos.merge(stage, event.getDuration().toNanos(), Long::sum);
+            if (start == null || event.getStartTime().isBefore(start)) {
+                start = event.getStartTime();
+            }
+            if (end == null || event.getEndTime().isAfter(end)) {
+                end = event.getEndTime();
+            }
+            failed |= OrderPipelineEvent.FAILURE.equals(event.getString("outcome"));
+        }
+
+        Duration elapsed() {
+            return Duration.between(start, end);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package kr.co.pincoin.api.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * 주문 처리 구간을 JFR 녹화에 남기는 이벤트의 공통 필드
+ * <p>
+ * - 구간 시작에 start()로 만든 이벤트를 구간이 끝나면 finish()로 기록
+ * - 소요 시간과 실행 스레드는 JFR이 이벤트마다 자동으로 기록
+ * - 녹화 중이 아니면 shouldCommit()이 false이므로 필드를 채우지 않으며,
+ * 이벤트 객체는 탈출 분석으로 제거되어 비용이 없음
+ */
+@Category({"Pincoin", "Order Pipeline"})
+@StackTrace(false)
+public abstract class OrderPipelineEvent extends Event {
+    public static final String SUCCESS = "success";
+
+    public static final String FAILURE = "failure";
+
+    @Label("Order ID")
+    protected String orderId;
+
+    @Label("Outcome")
+    protected String outcome;
+
+    /**
+     * 구간을 끝내고 녹화 중인 경우에만 기록
+     *
+     * @param orderId 주문번호 (묶음 호출은 쉼표로 연결한 주문번호)
+     * @param success 구간의 작업이 성공했는지 여부
+     */
+    public void finish(String orderId, boolean success) {
+        end();
+        if (shouldCommit()) {
+            this.orderId = orderId;
+            this.outcome = success ? SUCCESS : FAILURE;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package kr.co.pincoin.api.diagnostics;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 결제 저장과 알림 이벤트 기록 (3단계, 같은 트랜잭션의 커밋까지)
+ */
+@Name("kr.co.pincoin.order.PaymentPersisted")
+@Label("Payment Persisted")
+public class PaymentPersistedEvent extends OrderPipelineEvent {
+    public static PaymentPersistedEvent start() {
+        PaymentPersistedEvent event = new PaymentPersistedEvent();
+        event.begin();
+        return event;
+    }
+}
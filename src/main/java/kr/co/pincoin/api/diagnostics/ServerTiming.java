@@ -0,0 +1,99 @@
+package kr.co.pincoin.api.diagnostics;
+
+import kr.co.pincoin.api.enums.OrderStep;
+
+/**
+ * 주문 요청 하나의 단계별 소요 시간을 모아 Server-Timing 응답 헤더 값으로 만드는 문맥
+ * <p>
+ * - 표본으로 뽑힌 요청만 start()로 만들고, 나머지 요청은 기록을 모두 무시하는 disabled()를 공유
+ * - 사가 단계는 CompletableFuture 체인으로 이어져 실행되므로 기록과 헤더 생성 사이의 가시성은 체인이 보장
+ * - 측정하지 않은 구간(실행되지 않은 단계, 보상이 없었던 요청)은 헤더에서 생략
+ * <p>
+ * 예: order-insert;dur=3.1, external-wait;dur=812.4, payment-insert;dur=4.2, total;dur=822.9
+ */
+public final class ServerTiming {
+    public static final String HEADER = "Server-Timing";
+
+    private static final long NOT_MEASURED = -1L;
+
+    private static final ServerTiming DISABLED = new ServerTiming(false);
+
+    private final boolean enabled;
+
+    private final long startNanos;
+
+    private long orderInsertNanos = NOT_MEASURED;
+
+    private long externalWaitNanos = NOT_MEASURED;
+
+    private long paymentInsertNanos = NOT_MEASURED;
+
+    private long compensationNanos = NOT_MEASURED;
+
+    private ServerTiming(boolean enabled) {
+        this.enabled = enabled;
+        this.startNanos = enabled ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * 지금부터 전체 처리 시간을 재는 문맥
+     */
+    public static ServerTiming start() {
+        return new ServerTiming(true);
+    }
+
+    /**
+     * 아무것도 기록하지 않는 문맥
+     */
+    public static ServerTiming disabled() {
+        return DISABLED;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void recordStep(OrderStep step, long nanos) {
+        if (!enabled) {
+            return;
+        }
+        switch (step) {
+            case CREATE_ORDER -> orderInsertNanos = nanos;
+            case EXTERNAL_API -> externalWaitNanos = nanos;
+            case PAYMENT -> paymentInsertNanos = nanos;
+        }
+    }
+
+    /**
+     * 보상은 여러 단계에서 수행될 수 있으므로 합산
+     */
+    public void addCompensation(long nanos) {
+        if (!enabled) {
+            return;
+        }
+        compensationNanos = compensationNanos == NOT_MEASURED ? nanos : compensationNanos + nanos;
+    }
+
+    /**
+     * 지금까지 측정한 구간과 시작부터 현재까지의 전체 시간 (ms 단위)
+     */
+    public String toHeaderValue() {
+        StringBuilder value = new StringBuilder(128);
+        append(value, "order-insert", orderInsertNanos);
+        append(value, "external-wait", externalWaitNanos);
+        append(value, "payment-insert", paymentInsertNanos);
+        append(value, "compensation", compensationNanos);
+        append(value, "total", System.nanoTime() - startNanos);
+        return value.toString();
+    }
+
+    private static void append(StringBuilder value, String name, long nanos) {
+        if (nanos == NOT_MEASURED) {
+            return;
+        }
+        if (!value.isEmpty()) {
+            value.append(", ");
+        }
+        value.append(name).append(";dur=").append(Math.round(nanos / 100_000.0) / 10.0);
+    }
+}
@@ -0,0 +1,91 @@
+package kr.co.pincoin.api.diagnostics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 가상 스레드 캐리어 고정(pinning) 감지기
+ * <p>
+ * - 가상 스레드 모드(spring.threads.virtual.enabled=true)에서만 동작
+ * - JFR의 jdk.VirtualThreadPinned 이벤트를 스트리밍으로 구독하여
+ * synchronized 블록이나 네이티브 호출 안에서 블로킹되어 캐리어 스레드를 점유한 구간을 보고
+ * - threshold-ms 이상 고정된 경우만 수집하고, 고정 위치의 스택 일부를 경고 로그로 남김
+ * - 지표: virtual.thread.pinned (고정 시간 타이머)
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@RequiredArgsConstructor
+@Slf4j
+public class VirtualThreadPinningMonitor {
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private static final int LOGGED_FRAMES = 8;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${execution.pinning.threshold-ms:20}")
+    private long thresholdMs;
+
+    private RecordingStream recordingStream;
+
+    private Timer pinnedTimer;
+
+    @PostConstruct
+    void start() {
+        pinnedTimer = Timer.builder("virtual.thread.pinned")
+                .description("Time virtual threads spent pinned to their carrier thread")
+                .register(meterRegistry);
+
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT)
+                .withThreshold(Duration.ofMillis(thresholdMs))
+                .withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::report);
+        recordingStream.startAsync();
+        log.info("Virtual thread pinning monitor started, threshold {}ms", thresholdMs);
+    }
+
+    @PreDestroy
+    void stop() {
+        recordingStream.close();
+    }
+
+    private void report(RecordedEvent event) {
+        pinnedTimer.record(event.getDuration());
+        log.warn("Virtual thread {} pinned its carrier for {}ms at:{}",
+                event.getThread() != null ? event.getThread().getJavaName() : "unknown",
+                event.getDuration().toMillis(), formatStackTrace(event.getStackTrace()));
+    }
+
+    private static String formatStackTrace(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return " (no stack trace)";
+        }
+        StringBuilder builder = new StringBuilder();
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        for (RecordedFrame frame : frames.subList(0, Math.min(LOGGED_FRAMES, frames.size()))) {
+            builder.append("\n\tat ")
+                    .append(frame.getMethod().getType().getName())
+                    .append('.')
+                    .append(frame.getMethod().getName())
+                    .append(':')
+                    .append(frame.getLineNumber());
+        }
+        return builder.toString();
+    }
+}
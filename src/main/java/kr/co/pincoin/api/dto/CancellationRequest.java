@@ -0,0 +1,39 @@
+package kr.co.pincoin.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * outbox_events에 기록하는 외부 API 취소 요청
+ * <p>
+ * - 취소에 필요한 주문번호와 금액만 기록 (고객 정보는 dead letter로 남기지 않음)
+ * - referenceId가 있으면 그 승인 한 건만, 없으면 주문의 승인을 취소
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CancellationRequest {
+    private String orderId;
+    private BigDecimal amount;
+    private String referenceId;
+
+    public static CancellationRequest of(OrderRequest request, String referenceId) {
+        return CancellationRequest.builder()
+                .orderId(request.getOrderId())
+                .amount(request.getAmount())
+                .referenceId(referenceId)
+                .build();
+    }
+
+    public OrderRequest toOrderRequest() {
+        return OrderRequest.builder()
+                .orderId(orderId)
+                .amount(amount)
+                .build();
+    }
+}
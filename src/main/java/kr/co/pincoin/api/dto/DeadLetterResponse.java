@@ -0,0 +1,44 @@
+package kr.co.pincoin.api.dto;
+
+import kr.co.pincoin.api.entity.DeadLetter;
+import kr.co.pincoin.api.enums.OutboxEventType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeadLetterResponse {
+    private Long id;
+
+    private OutboxEventType eventType;
+
+    // 취소 대상 주문번호
+    private String aggregateId;
+
+    private int attempts;
+
+    // 마지막 시도의 실패 원인
+    private String lastError;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime deadLetteredAt;
+
+    public static DeadLetterResponse from(DeadLetter deadLetter) {
+        return DeadLetterResponse.builder()
+                .id(deadLetter.getId())
+                .eventType(deadLetter.getEventType())
+                .aggregateId(deadLetter.getAggregateId())
+                .attempts(deadLetter.getAttempts())
+                .lastError(deadLetter.getLastError())
+                .createdAt(deadLetter.getCreatedAt())
+                .deadLetteredAt(deadLetter.getDeadLetteredAt())
+                .build();
+    }
+}
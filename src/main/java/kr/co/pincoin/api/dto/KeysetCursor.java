@@ -0,0 +1,45 @@
+package kr.co.pincoin.api.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지네이션 커서 (직전 페이지 마지막 항목의 정렬 시각과 식별자)
+ * <p>
+ * 목록은 (시각, 식별자) 내림차순이므로 다음 페이지는 이 위치보다 앞선 항목부터 조회
+ * 클라이언트에는 내부 형식을 드러내지 않도록 Base64(URL-safe) 문자열로 전달
+ *
+ * @param at 정렬 기준 시각
+ * @param id 같은 시각의 항목을 구분하는 엔티티 식별자
+ */
+public record KeysetCursor(LocalDateTime at, Long id) {
+    // 첫 페이지: 모든 항목보다 뒤의 위치 (DB 시각 범위 안의 최댓값)
+    public static final KeysetCursor FIRST = new KeysetCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((at.toString() + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor 직전 응답의 nextCursor (없으면 첫 페이지)
+     * @throws IllegalArgumentException 형식이 올바르지 않은 커서
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf(SEPARATOR);
+            return new KeysetCursor(LocalDateTime.parse(decoded.substring(0, separator)),
+                    Long.parseLong(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package kr.co.pincoin.api.dto;
+
+import java.util.List;
+
+/**
+ * 키셋 페이지네이션 조회 결과
+ *
+ * @param items      현재 페이지 항목
+ * @param nextCursor 다음 페이지를 조회할 커서 (마지막 페이지이면 null)
+ */
+public record KeysetPage<T>(List<T> items, String nextCursor) {
+}
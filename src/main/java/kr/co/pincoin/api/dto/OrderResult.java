@@ -0,0 +1,44 @@
+package kr.co.pincoin.api.dto;
+
+import kr.co.pincoin.api.enums.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderResult {
+    private String orderId;
+
+    private OrderStatus status;
+
+    private String referenceId;
+
+    private LocalDateTime processedAt;
+
+    // 실패 시 원인 메시지
+    private String error;
+
+    public static OrderResult completed(OrderRequest request, APIResponse apiResponse) {
+        return OrderResult.builder()
+                .orderId(request.getOrderId())
+                .status(OrderStatus.COMPLETED)
+                .referenceId(apiResponse.getReferenceId())
+                .processedAt(LocalDateTime.now())
+                .build();
+    }
+
+    public static OrderResult failed(String orderId, String error) {
+        return OrderResult.builder()
+                .orderId(orderId)
+                .status(OrderStatus.FAILED)
+                .processedAt(LocalDateTime.now())
+                .error(error)
+                .build();
+    }
+}
@@ -0,0 +1,69 @@
+package kr.co.pincoin.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import kr.co.pincoin.api.diagnostics.ServerTiming;
+import kr.co.pincoin.api.enums.OrderStep;
+import kr.co.pincoin.api.resilience.Deadline;
+import kr.co.pincoin.api.saga.SagaTimingListener;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 사가의 단계 간에 공유되는 문맥
+ * 단계 전이마다 JSON으로 saga_states에 저장되어 복구 시 그대로 복원됨
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class OrderSagaContext implements SagaTimingListener {
+    private OrderRequest request;
+
+    // 사가를 시작한 시각 (복구 시 이 시각 이후 저장된 주문만 이 사가의 주문으로 인정)
+    private LocalDateTime startedAt;
+
+    // 1번 단계에서 저장된 주문 엔티티 식별자
+    private Long orderPk;
+
+    // 2번 단계의 외부 API 응답
+    private APIResponse apiResponse;
+
+    // 요청의 처리 마감 시각 (저장하지 않으므로 복구된 문맥은 마감 시각 없음)
+    @JsonIgnore
+    private Deadline deadline = Deadline.none();
+
+    // 응답의 Server-Timing 헤더로 보낼 단계별 소요 시간 (표본이 아닌 요청과 복구된 문맥은 기록하지 않음)
+    @JsonIgnore
+    private ServerTiming serverTiming = ServerTiming.disabled();
+
+    public static OrderSagaContext of(OrderRequest request, Deadline deadline) {
+        return of(request, deadline, ServerTiming.disabled());
+    }
+
+    public static OrderSagaContext of(OrderRequest request, Deadline deadline, ServerTiming serverTiming) {
+        OrderSagaContext context = new OrderSagaContext();
+        context.setRequest(request);
+        context.setStartedAt(LocalDateTime.now());
+        context.setDeadline(deadline);
+        context.setServerTiming(serverTiming);
+        return context;
+    }
+
+    @Override
+    public void stepCompleted(String stepName, long nanos) {
+        if (serverTiming.isEnabled()) {
+            serverTiming.recordStep(OrderStep.valueOf(stepName), nanos);
+        }
+    }
+
+    @Override
+    public void compensationCompleted(String stepName, long nanos) {
+        serverTiming.addCompensation(nanos);
+    }
+
+    public OrderResult toResult() {
+        return OrderResult.completed(request, apiResponse);
+    }
+}
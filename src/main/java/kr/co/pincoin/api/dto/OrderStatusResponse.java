@@ -0,0 +1,48 @@
+package kr.co.pincoin.api.dto;
+
+import kr.co.pincoin.api.entity.Order;
+import kr.co.pincoin.api.entity.Payment;
+import kr.co.pincoin.api.enums.OrderStatus;
+import kr.co.pincoin.api.enums.PaymentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderStatusResponse {
+    private String orderId;
+
+    private BigDecimal amount;
+
+    private OrderStatus status;
+
+    private LocalDateTime createdAt;
+
+    // 결제 정보 (결제가 아직 저장되지 않았으면 null)
+    private PaymentStatus paymentStatus;
+
+    private String externalReference;
+
+    private LocalDateTime paymentProcessedAt;
+
+    public static OrderStatusResponse from(Order order, Payment payment) {
+        OrderStatusResponseBuilder builder = OrderStatusResponse.builder()
+                .orderId(order.getOrderId())
+                .amount(order.getAmount())
+                .status(order.getStatus())
+                .createdAt(order.getCreatedAt());
+        if (payment != null) {
+            builder.paymentStatus(payment.getStatus())
+                    .externalReference(payment.getExternalReference())
+                    .paymentProcessedAt(payment.getProcessedAt());
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,22 @@
+package kr.co.pincoin.api.dto;
+
+import kr.co.pincoin.api.enums.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 주문 목록 조회용 프로젝션 (엔티티를 영속성 컨텍스트에 올리지 않고 필요한 컬럼만 조회)
+ *
+ * @param id        주문 엔티티 식별자 (다음 페이지 커서)
+ * @param orderId   주문번호
+ * @param amount    주문 금액
+ * @param status    주문 상태
+ * @param createdAt 주문 생성 시각 (다음 페이지 커서)
+ */
+public record OrderSummary(Long id,
+                           String orderId,
+                           BigDecimal amount,
+                           OrderStatus status,
+                           LocalDateTime createdAt) {
+}
@@ -0,0 +1,24 @@
+package kr.co.pincoin.api.dto;
+
+import kr.co.pincoin.api.enums.PaymentStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 결제 목록 조회용 프로젝션 (엔티티를 영속성 컨텍스트에 올리지 않고 필요한 컬럼만 조회)
+ *
+ * @param id                결제 엔티티 식별자 (다음 페이지 커서)
+ * @param orderId           주문번호
+ * @param amount            결제 금액
+ * @param externalReference 외부 API 승인 참조번호
+ * @param status            결제 상태
+ * @param processedAt       결제 처리 시각 (다음 페이지 커서)
+ */
+public record PaymentSummary(Long id,
+                             String orderId,
+                             BigDecimal amount,
+                             String externalReference,
+                             PaymentStatus status,
+                             LocalDateTime processedAt) {
+}
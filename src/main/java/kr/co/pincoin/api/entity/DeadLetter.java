@@ -0,0 +1,65 @@
+package kr.co.pincoin.api.entity;
+
+import jakarta.persistence.*;
+import kr.co.pincoin.api.enums.OutboxEventType;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 최대 시도 횟수까지 처리하지 못해 outbox_events에서 옮겨진 이벤트
+ * 관리자가 원인을 확인한 뒤 재처리하면 다시 outbox_events의 대기 이벤트가 됨
+ */
+@Entity
+@Table(name = "dead_letters", indexes = @Index(name = "idx_dead_letters_type_id", columnList = "eventType, id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class DeadLetter {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long outboxEventId;
+
+    private String aggregateId;
+
+    @Enumerated(EnumType.STRING)
+    private OutboxEventType eventType;
+
+    @Column(length = 4000)
+    private String payload;
+
+    private int attempts;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime deadLetteredAt;
+
+    public static DeadLetter from(OutboxEvent event, String lastError) {
+        return DeadLetter.builder()
+                .outboxEventId(event.getId())
+                .aggregateId(event.getAggregateId())
+                .eventType(event.getEventType())
+                .payload(event.getPayload())
+                .attempts(event.getAttempts())
+                .lastError(lastError != null && lastError.length() > 1000 ? lastError.substring(0, 1000) : lastError)
+                .createdAt(event.getCreatedAt())
+                .build();
+    }
+
+    /**
+     * 재처리를 위해 시도 횟수를 초기화한 대기 이벤트로 되돌림
+     */
+    public OutboxEvent toOutboxEvent() {
+        return OutboxEvent.of(eventType, aggregateId, payload);
+    }
+
+    @PrePersist
+    public void prePersist() {
+        this.deadLetteredAt = LocalDateTime.now();
+    }
+}
@@ -4,19 +4,28 @@ import jakarta.persistence.*;
 import kr.co.pincoin.api.dto.OrderRequest;
 import kr.co.pincoin.api.enums.OrderStatus;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "orders")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "orders")
+@Table(name = "orders",
+        uniqueConstraints = @UniqueConstraint(name = "uk_orders_order_id", columnNames = "orderId"),
+        indexes = {
+                @Index(name = "idx_orders_created_at_id", columnList = "createdAt, id"),
+                @Index(name = "idx_orders_status_created_at_id", columnList = "status, createdAt, id")
+        })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
 public class Order {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledSequence
     private Long id;
 
     private String orderId;
@@ -35,6 +44,10 @@ public class Order {
                 .build();
     }
 
+    public void fail() {
+        this.status = OrderStatus.FAILED;
+    }
+
     @PrePersist
     public void prePersist() {
         this.createdAt = LocalDateTime.now();
@@ -0,0 +1,51 @@
+package kr.co.pincoin.api.entity;
+
+import jakarta.persistence.*;
+import kr.co.pincoin.api.enums.OutboxEventType;
+import kr.co.pincoin.api.enums.OutboxStatus;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "outbox_events", indexes = @Index(name = "idx_outbox_events_type_status_id", columnList = "eventType, status, id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String aggregateId;
+
+    @Enumerated(EnumType.STRING)
+    private OutboxEventType eventType;
+
+    @Column(length = 4000)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    private OutboxStatus status;
+
+    private int attempts;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime claimedAt;
+    private LocalDateTime deliveredAt;
+
+    public static OutboxEvent of(OutboxEventType eventType, String aggregateId, String payload) {
+        return OutboxEvent.builder()
+                .aggregateId(aggregateId)
+                .eventType(eventType)
+                .payload(payload)
+                .status(OutboxStatus.PENDING)
+                .build();
+    }
+
+    @PrePersist
+    public void prePersist() {
+        this.createdAt = LocalDateTime.now();
+    }
+}
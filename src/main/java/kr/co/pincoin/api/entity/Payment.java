@@ -5,19 +5,27 @@ import kr.co.pincoin.api.dto.APIResponse;
 import kr.co.pincoin.api.dto.OrderRequest;
 import kr.co.pincoin.api.enums.PaymentStatus;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "payments")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "payments")
+@Table(name = "payments", indexes = {
+        @Index(name = "idx_payments_order_id", columnList = "orderId"),
+        @Index(name = "idx_payments_processed_at_id", columnList = "processedAt, id"),
+        @Index(name = "idx_payments_status_processed_at_id", columnList = "status, processedAt, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
 public class Payment {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledSequence
     private Long id;
 
     private String orderId;
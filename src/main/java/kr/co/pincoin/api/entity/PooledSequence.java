@@ -0,0 +1,25 @@
+package kr.co.pincoin.api.entity;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * pooled-lo 최적화 시퀀스로 식별자를 생성
+ * <p>
+ * IDENTITY 전략과 달리 INSERT 전에 식별자를 확보하므로 Hibernate JDBC 배치 INSERT가 가능
+ * 할당 크기는 {@link PooledSequenceGenerator#ALLOCATION_SIZE_SETTING} 설정으로 지정
+ * <p>
+ * 시퀀스 이름은 테이블 이름 + "_seq" (orders_seq, payments_seq, transaction_logs_seq)
+ * - {@code @GeneratedValue}의 기본 이름은 엔티티 이름 + "_SEQ"(Order_SEQ → order_seq)이지만, 이 애노테이션은 생성기가 이름을 직접 지정
+ * - Hibernate 6.6의 표준 명명 전략(hibernate.id.db_structure_naming_strategy=standard)은 {@code @IdGeneratorType} 생성기에
+ *   엔티티 이름을 전달하지 않아 테이블 이름을 쓰는데, 버전이 바뀌어도 기존 시퀀스를 계속 쓰도록 고정
+ */
+@IdGeneratorType(PooledSequenceGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface PooledSequence {
+}
@@ -0,0 +1,41 @@
+package kr.co.pincoin.api.entity;
+
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.util.Properties;
+
+/**
+ * {@link PooledSequence} 식별자 생성기
+ * <p>
+ * 애노테이션 속성은 상수만 허용하므로 할당 크기는 Hibernate 설정에서 읽음
+ * - spring.jpa.properties.jpa-services.id.allocation-size (기본값 50)
+ * - 시퀀스 한 번 조회로 할당 크기만큼의 식별자를 메모리에서 발급 (pooled-lo)
+ * <p>
+ * 시퀀스 이름은 명명 전략에 맡기지 않고 테이블 이름 + "_seq"로 지정
+ */
+public class PooledSequenceGenerator extends SequenceStyleGenerator {
+    public static final String ALLOCATION_SIZE_SETTING = "jpa-services.id.allocation-size";
+
+    public static final int DEFAULT_ALLOCATION_SIZE = 50;
+
+    private static final String SEQUENCE_SUFFIX = "_seq";
+
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) throws MappingException {
+        int allocationSize = serviceRegistry.requireService(ConfigurationService.class)
+                .getSetting(ALLOCATION_SIZE_SETTING, StandardConverters.INTEGER, DEFAULT_ALLOCATION_SIZE);
+
+        Properties sequenceParameters = new Properties();
+        sequenceParameters.putAll(parameters);
+        sequenceParameters.put(INCREMENT_PARAM, String.valueOf(allocationSize));
+        sequenceParameters.put(OPT_PARAM, StandardOptimizerDescriptor.POOLED_LO.getExternalName());
+        sequenceParameters.put(SEQUENCE_PARAM, parameters.getProperty(TABLE) + SEQUENCE_SUFFIX);
+        super.configure(type, sequenceParameters, serviceRegistry);
+    }
+}
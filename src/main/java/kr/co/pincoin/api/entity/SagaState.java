@@ -0,0 +1,41 @@
+package kr.co.pincoin.api.entity;
+
+import jakarta.persistence.*;
+import kr.co.pincoin.api.enums.SagaStatus;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "saga_states", indexes = @Index(name = "idx_saga_states_status_id", columnList = "status, id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class SagaState {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String sagaType;
+    private String sagaKey;
+
+    @Enumerated(EnumType.STRING)
+    private SagaStatus status;
+
+    // 진행 중인(또는 마지막으로 시작한) 단계의 인덱스, 이보다 앞선 단계는 모두 완료됨
+    private int stepIndex;
+    private String stepName;
+
+    @Column(length = 4000)
+    private String payload;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    public void prePersist() {
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
+    }
+}
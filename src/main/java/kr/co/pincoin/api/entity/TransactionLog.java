@@ -3,17 +3,18 @@ package kr.co.pincoin.api.entity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "transaction_logs")
+@Table(name = "transaction_logs", indexes = @Index(name = "idx_transaction_logs_bucket_id", columnList = "bucket, id"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
 public class TransactionLog {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledSequence
     private Long id;
 
     private String orderId;
@@ -21,8 +22,16 @@ public class TransactionLog {
     private String details;
     private LocalDateTime timestamp;
 
+    // 보존 기간 정리 단위인 일자 버킷 (timestamp의 날짜)
+    @Column(nullable = false)
+    private LocalDate bucket;
+
     @PrePersist
     public void prePersist() {
-        this.timestamp = LocalDateTime.now();
+        // 비동기 배치 저장 시 기록 요청 시각을 유지
+        if (this.timestamp == null) {
+            this.timestamp = LocalDateTime.now();
+        }
+        this.bucket = this.timestamp.toLocalDate();
     }
 }
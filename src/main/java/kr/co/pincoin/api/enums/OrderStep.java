@@ -0,0 +1,5 @@
+package kr.co.pincoin.api.enums;
+
+public enum OrderStep {
+    CREATE_ORDER, EXTERNAL_API, PAYMENT
+}
@@ -0,0 +1,6 @@
+package kr.co.pincoin.api.enums;
+
+public enum OutboxEventType {
+    ORDER_NOTIFICATION,
+    EXTERNAL_API_CANCELLATION
+}
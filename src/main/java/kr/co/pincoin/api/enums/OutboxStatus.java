@@ -0,0 +1,5 @@
+package kr.co.pincoin.api.enums;
+
+public enum OutboxStatus {
+    PENDING, IN_FLIGHT, DELIVERED, FAILED
+}
@@ -0,0 +1,5 @@
+package kr.co.pincoin.api.enums;
+
+public enum SagaStatus {
+    RUNNING, COMPENSATING, COMPLETED, COMPENSATED, COMPENSATION_FAILED
+}
@@ -0,0 +1,11 @@
+package kr.co.pincoin.api.exception;
+
+public class BulkheadFullException extends RuntimeException {
+    public BulkheadFullException(String message) {
+        super(message);
+    }
+
+    public BulkheadFullException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,7 @@
+package kr.co.pincoin.api.exception;
+
+public class DeadlineExceededException extends RuntimeException {
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+}
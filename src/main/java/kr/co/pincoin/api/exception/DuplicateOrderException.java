@@ -0,0 +1,11 @@
+package kr.co.pincoin.api.exception;
+
+public class DuplicateOrderException extends RuntimeException {
+    public DuplicateOrderException(String message) {
+        super(message);
+    }
+
+    public DuplicateOrderException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
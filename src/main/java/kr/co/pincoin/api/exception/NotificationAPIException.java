@@ -0,0 +1,12 @@
+package kr.co.pincoin.api.exception;
+
+
+public class NotificationAPIException extends RuntimeException {
+    public NotificationAPIException(String message) {
+        super(message);
+    }
+
+    public NotificationAPIException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
\ No newline at end of file
@@ -4,6 +4,7 @@ import kr.co.pincoin.api.dto.APIResponse;
 import kr.co.pincoin.api.dto.OrderRequest;
 import kr.co.pincoin.api.exception.ExternalAPIException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -15,11 +16,29 @@ import java.util.UUID;
 public class DummyExternalAPIClient implements ExternalAPIClient {
     private final Random random = new Random();
 
+    private final double failureRate;
+
+    private final double cancelFailureRate;
+
+    private final long minDelayMs;
+
+    private final long maxDelayMs;
+
+    public DummyExternalAPIClient(@Value("${external.dummy.failure-rate:0.5}") double failureRate,
+                                  @Value("${external.dummy.cancel-failure-rate:0.1}") double cancelFailureRate,
+                                  @Value("${external.dummy.min-delay-ms:500}") long minDelayMs,
+                                  @Value("${external.dummy.max-delay-ms:1500}") long maxDelayMs) {
+        this.failureRate = failureRate;
+        this.cancelFailureRate = cancelFailureRate;
+        this.minDelayMs = minDelayMs;
+        this.maxDelayMs = maxDelayMs;
+    }
+
     @Override
     public APIResponse processAsync(OrderRequest request) {
-        // 랜덤하게 실패 시뮬레이션 (50% 확률)
+        // 랜덤하게 실패 시뮬레이션 (기본 50% 확률)
         simulateRandomDelay();
-        if (random.nextDouble() < 0.5) {
+        if (random.nextDouble() < failureRate) {
             throw new ExternalAPIException("External API processing failed");
         }
 
@@ -33,14 +52,32 @@ public class DummyExternalAPIClient implements ExternalAPIClient {
     @Override
     public void cancelAsync(OrderRequest request) {
         simulateRandomDelay();
+        simulateCancelFailure();
         log.info("Cancelled external API process for order: {}", request.getOrderId());
     }
 
+    @Override
+    public void cancelAsync(OrderRequest request, String referenceId) {
+        simulateRandomDelay();
+        simulateCancelFailure();
+        log.info("Cancelled external API reference {} for order: {}", referenceId, request.getOrderId());
+    }
+
+    private void simulateCancelFailure() {
+        // 랜덤하게 취소 실패 시뮬레이션 (기본 10% 확률)
+        if (random.nextDouble() < cancelFailureRate) {
+            throw new ExternalAPIException("External API cancellation failed");
+        }
+    }
+
     private void simulateRandomDelay() {
         try {
-            Thread.sleep(random.nextInt(1000) + 500); // 500-1500ms delay
+            // 기본 500-1500ms delay
+            Thread.sleep(maxDelayMs > minDelayMs ? random.nextLong(minDelayMs, maxDelayMs) : minDelayMs);
         } catch (InterruptedException e) {
+            // 호출자가 취소한 경우 응답을 만들지 않고 중단
             Thread.currentThread().interrupt();
+            throw new ExternalAPIException("External API call interrupted");
         }
     }
 }
@@ -1,22 +1,99 @@
 package kr.co.pincoin.api.external;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import kr.co.pincoin.api.dto.OrderRequest;
+import kr.co.pincoin.api.exception.NotificationAPIException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.List;
 import java.util.Random;
 
+/**
+ * 알림 API 더미 구현체
+ * <p>
+ * [호출 비용 모델]
+ * - 호출마다 본문 JSON 직렬화와 HMAC 서명을 실제로 수행 (CPU)
+ * - 호출마다 call-latency-ms의 왕복 지연 + 알림 한 건마다 item-latency-us의 처리 지연 (대기)
+ * - 호출 단위로 failure-rate 확률로 실패하며 실패한 호출의 알림은 하나도 발송되지 않음
+ * 호출당 고정 비용이 알림 한 건의 비용보다 크므로 묶어서 보낼수록 알림당 비용이 줄어듦
+ */
 @Service
 @Slf4j
 public class DummyNotificationAPIClient implements NotificationAPIClient {
+    private static final byte[] SIGNING_KEY = "dummy-notification-signing-key".getBytes(StandardCharsets.UTF_8);
+
     private final Random random = new Random();
 
+    private final ObjectMapper objectMapper;
+
+    private final double failureRate;
+
+    private final long callLatencyMs;
+
+    private final long itemLatencyMicros;
+
+    public DummyNotificationAPIClient(ObjectMapper objectMapper,
+                                      @Value("${notification.dummy.failure-rate:0.5}") double failureRate,
+                                      @Value("${notification.dummy.call-latency-ms:20}") long callLatencyMs,
+                                      @Value("${notification.dummy.item-latency-us:200}") long itemLatencyMicros) {
+        this.objectMapper = objectMapper;
+        this.failureRate = failureRate;
+        this.callLatencyMs = callLatencyMs;
+        this.itemLatencyMicros = itemLatencyMicros;
+    }
+
     @Override
     public void notify(OrderRequest request) {
-        // 랜덤하게 실패 시뮬레이션 (50% 확률)
-        if (random.nextDouble() < 0.5) {
-            throw new RuntimeException("Notification sending failed");
+        notifyBatch(List.of(request));
+    }
+
+    @Override
+    public void notifyBatch(List<OrderRequest> requests) {
+        sign(serialize(requests));
+        simulateDelay(callLatencyMs * 1_000 + itemLatencyMicros * requests.size());
+
+        // 랜덤하게 실패 시뮬레이션 (기본 50% 확률)
+        if (random.nextDouble() < failureRate) {
+            throw new NotificationAPIException("Notification sending failed");
+        }
+        if (requests.size() == 1) {
+            log.info("Notification sent for order: {}", requests.getFirst().getOrderId());
+        } else {
+            log.info("Notifications sent for {} orders", requests.size());
+        }
+    }
+
+    private byte[] serialize(List<OrderRequest> requests) {
+        try {
+            return objectMapper.writeValueAsBytes(requests);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Notification payload is not serializable", e);
+        }
+    }
+
+    private static void sign(byte[] body) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(SIGNING_KEY, "HmacSHA256"));
+            mac.doFinal(body);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Notification request cannot be signed", e);
+        }
+    }
+
+    private static void simulateDelay(long micros) {
+        try {
+            Thread.sleep(micros / 1_000, (int) (micros % 1_000) * 1_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new NotificationAPIException("Notification sending interrupted");
         }
-        log.info("Notification sent for order: {}", request.getOrderId());
     }
 }
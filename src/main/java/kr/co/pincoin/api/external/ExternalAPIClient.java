@@ -2,9 +2,24 @@ package kr.co.pincoin.api.external;
 
 import kr.co.pincoin.api.dto.APIResponse;
 import kr.co.pincoin.api.dto.OrderRequest;
+import kr.co.pincoin.api.exception.ExternalAPIException;
 
 public interface ExternalAPIClient {
+    /**
+     * 주문 승인 요청
+     *
+     * @param request 주문 요청 정보
+     * @return 승인 결과 (승인마다 다른 referenceId)
+     * @throws ExternalAPIException 승인되지 않은 것이 확실한 실패 (재시도 대상)
+     *                              응답을 받지 못해 승인 여부를 알 수 없는 실패는 다른 예외로 알려 재시도하지 않도록 함
+     */
     APIResponse processAsync(OrderRequest request);
 
     void cancelAsync(OrderRequest request);
+
+    /**
+     * 같은 주문에 대해 승인된 여러 건 중 referenceId에 해당하는 승인만 취소
+     * 헤지 요청에서 나중에 도착한 승인을 취소할 때 사용
+     */
+    void cancelAsync(OrderRequest request, String referenceId);
 }
\ No newline at end of file
@@ -1,7 +1,19 @@
 package kr.co.pincoin.api.external;
 
 import kr.co.pincoin.api.dto.OrderRequest;
+import kr.co.pincoin.api.exception.NotificationAPIException;
+
+import java.util.List;
 
 public interface NotificationAPIClient {
     void notify(OrderRequest request);
+
+    /**
+     * 여러 주문의 알림을 한 번의 호출로 발송
+     * 한 건이라도 발송하지 못하면 호출 전체가 실패하며, 어느 알림도 발송되지 않은 것으로 봄
+     *
+     * @param requests 주문 요청 목록
+     * @throws NotificationAPIException 일시적인 발송 실패 (재시도 대상)
+     */
+    void notifyBatch(List<OrderRequest> requests);
 }
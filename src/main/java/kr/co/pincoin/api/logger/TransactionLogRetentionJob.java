@@ -0,0 +1,151 @@
+package kr.co.pincoin.api.logger;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import kr.co.pincoin.api.repository.TransactionLogRepository;
+import kr.co.pincoin.api.resilience.Deadline;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 보존 기간이 지난 트랜잭션 로그를 일자 버킷 단위로 정리하는 작업
+ * <p>
+ * [처리 순서]
+ * 1. 오늘에서 retention-days를 뺀 날짜보다 이전 버킷을 만료 대상으로 정함
+ * 2. 만료 버킷의 로그 식별자를 (bucket, id) 인덱스 순서로 batch-size건 조회 후 식별자로 삭제 (짧은 트랜잭션)
+ * 3. 배치 사이에 pause-ms만큼 쉬어 TransactionLogger의 INSERT가 커넥션과 잠금을 먼저 얻도록 함
+ * 4. 남은 로그가 없거나 max-run-ms가 지나면 종료하고 다음 주기에 이어서 정리
+ * <p>
+ * [잠금 범위]
+ * - 한 트랜잭션은 만료 버킷의 batch-size건만 잠그므로, INSERT가 기다릴 수 있는 최대 시간은 배치 하나의 처리 시간
+ * - 새 로그는 오늘 버킷에 기록되므로 만료 버킷의 삭제 대상 행과 겹치지 않음
+ * <p>
+ * 정리 건수(transaction.logger.retention.purged), 배치 트랜잭션이 잠금을 잡고 있는 시간(transaction.logger.retention.batch),
+ * 마지막 실행의 초당 정리 건수(transaction.logger.retention.rate)를 지표로 노출
+ * 정리 때문에 INSERT가 기다린 시간은 기다리는 쪽인 TransactionLogger의 transaction.logger.flush{purge=running}과
+ * purge=idle의 차이로 확인
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TransactionLogRetentionJob {
+    private final TransactionLogRepository logRepository;
+
+    private final TransactionLogger transactionLogger;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${transaction-logger.retention.days:90}")
+    private int retentionDays;
+
+    @Value("${transaction-logger.retention.batch-size:500}")
+    private int batchSize;
+
+    @Value("${transaction-logger.retention.pause-ms:10}")
+    private long pauseMs;
+
+    @Value("${transaction-logger.retention.max-run-ms:60000}")
+    private long maxRunMs;
+
+    private final AtomicLong lastRunRate = new AtomicLong();
+
+    private Counter purgedCounter;
+
+    private Timer batchTimer;
+
+    @PostConstruct
+    void registerMetrics() {
+        purgedCounter = Counter.builder("transaction.logger.retention.purged")
+                .description("Expired transaction logs deleted by the retention job")
+                .register(meterRegistry);
+        batchTimer = Timer.builder("transaction.logger.retention.batch")
+                .description("Time one retention batch transaction holds its row locks")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("transaction.logger.retention.rate", lastRunRate, AtomicLong::get)
+                .description("Transaction logs purged per second in the last retention run")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${transaction-logger.retention.interval-ms:3600000}",
+            initialDelayString = "${transaction-logger.retention.initial-delay-ms:60000}")
+    public void purge() {
+        transactionLogger.setPurgeRunning(true);
+        try {
+            purgeExpired();
+        } finally {
+            transactionLogger.setPurgeRunning(false);
+        }
+    }
+
+    private void purgeExpired() {
+        LocalDate cutoff = LocalDate.now().minusDays(retentionDays);
+        Deadline deadline = Deadline.after(Duration.ofMillis(maxRunMs));
+
+        long startedAt = System.nanoTime();
+        long purged = 0;
+        long maxBatchNanos = 0;
+        int deleted;
+        do {
+            long batchStartedAt = System.nanoTime();
+            deleted = purgeBatch(cutoff);
+            long batchNanos = System.nanoTime() - batchStartedAt;
+            if (deleted == 0) {
+                break;
+            }
+            batchTimer.record(batchNanos, TimeUnit.NANOSECONDS);
+            purgedCounter.increment(deleted);
+            purged += deleted;
+            maxBatchNanos = Math.max(maxBatchNanos, batchNanos);
+        } while (deleted == batchSize && !deadline.isExpired() && pause());
+
+        if (purged == 0) {
+            return;
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+        lastRunRate.set(purged * TimeUnit.SECONDS.toNanos(1) / elapsedNanos);
+        log.info("Purged {} transaction logs before {} in {} ms ({} rows/s, longest batch {} ms){}",
+                purged, cutoff, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), lastRunRate.get(),
+                TimeUnit.NANOSECONDS.toMillis(maxBatchNanos), deleted == batchSize ? ", continuing next run" : "");
+    }
+
+    private int purgeBatch(LocalDate cutoff) {
+        Integer deleted = transactionTemplate.execute(status -> {
+            List<Long> ids = logRepository.findIdsByBucketBefore(cutoff, Limit.of(batchSize));
+            if (!ids.isEmpty()) {
+                logRepository.deleteAllByIdInBatch(ids);
+            }
+            return ids.size();
+        });
+        return deleted == null ? 0 : deleted;
+    }
+
+    private boolean pause() {
+        if (pauseMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
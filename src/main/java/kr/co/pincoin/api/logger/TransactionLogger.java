@@ -1,30 +1,455 @@
 package kr.co.pincoin.api.logger;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import kr.co.pincoin.api.dto.OrderRequest;
 import kr.co.pincoin.api.entity.TransactionLog;
+import kr.co.pincoin.api.enums.OverflowPolicy;
 import kr.co.pincoin.api.repository.TransactionLogRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * 트랜잭션 감사 로그 기록기
+ * <p>
+ * [마이크로 배치 처리]
+ * - logTransaction은 호출 스레드에서 제한된 크기의 lock-free 큐에 적재만 하고 즉시 반환
+ * - 전용 플러시 스레드가 batch-size개가 모이거나 max-delay가 지나면 한 트랜잭션으로 묶어 저장 (그룹 커밋)
+ * - 큐가 가득 찬 경우 overflow-policy에 따라 처리
+ * - BLOCK: 공간이 생길 때까지 호출 스레드 대기
+ * - DROP: 로그를 버리고 dropped 지표 증가
+ * - SPILL: 디스크 파일에 추가 후 큐가 비었을 때 다시 저장
+ * - 애플리케이션 종료 시 큐에 남은 로그를 모두 저장한 뒤 종료
+ * <p>
+ * [spill 파일 재저장]
+ * - spill 파일을 .replay 파일로 옮긴 뒤 배치 단위로 저장하고, 모든 배치가 저장된 경우에만 삭제
+ * - 배치 저장이 실패하면 저장하지 못한 줄만 .replay 파일에 남기고 REPLAY_RETRY_DELAY 후 다시 시도 (overflow-policy와 무관)
+ * - 이전 프로세스나 이전 시도가 남긴 .replay 파일은 spill 파일을 옮기기 전에 먼저 저장 (덮어쓰지 않음)
+ * - 파일을 읽는 도중 입출력 오류가 나면 파일 전체를 남기므로 이미 저장된 배치가 다시 저장될 수 있음 (최소 한 번)
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class TransactionLogger {
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    private static final long REPLAY_RETRY_DELAY_NANOS = TimeUnit.SECONDS.toNanos(1);
+
     private final TransactionLogRepository logRepository;
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    private final TransactionTemplate transactionTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Queue<TransactionLog> queue = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger queueSize = new AtomicInteger();
+
+    // 파일 입출력 중 가상 스레드가 캐리어 스레드에 고정되지 않도록 synchronized 대신 사용
+    private final ReentrantLock spillLock = new ReentrantLock();
+
+    @Value("${transaction-logger.capacity:10000}")
+    private int capacity;
+
+    @Value("${transaction-logger.batch-size:100}")
+    private int batchSize;
+
+    @Value("${transaction-logger.max-delay-ms:50}")
+    private long maxDelayMs;
+
+    @Value("${transaction-logger.overflow-policy:BLOCK}")
+    private OverflowPolicy overflowPolicy;
+
+    @Value("${transaction-logger.spill-file:transaction-logs.spill}")
+    private String spillFilePath;
+
+    private Path spillFile;
+
+    private Path replayFile;
+
+    // 플러시 스레드에서만 사용
+    private long replayNotBeforeNanos;
+
+    private volatile boolean running;
+
+    private volatile boolean spillPending;
+
+    // 보존 기간 정리가 진행 중인지 여부 (정리가 INSERT를 기다리게 한 시간을 flush 지표의 purge 태그로 구분)
+    private volatile boolean purgeRunning;
+
+    private Thread flusher;
+
+    private Counter flushedCounter;
+
+    private Counter droppedCounter;
+
+    private Counter spilledCounter;
+
+    private Timer flushTimer;
+
+    private Timer flushDuringPurgeTimer;
+
+    @PostConstruct
+    void start() {
+        flushedCounter = meterRegistry.counter("transaction.logger.rows", "outcome", "flushed");
+        droppedCounter = meterRegistry.counter("transaction.logger.rows", "outcome", "dropped");
+        spilledCounter = meterRegistry.counter("transaction.logger.rows", "outcome", "spilled");
+        flushTimer = Timer.builder("transaction.logger.flush")
+                .description("Time taken to insert one batch of transaction logs")
+                .tag("purge", "idle")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        flushDuringPurgeTimer = Timer.builder("transaction.logger.flush")
+                .description("Time taken to insert one batch of transaction logs")
+                .tag("purge", "running")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("transaction.logger.queue.size", queueSize, AtomicInteger::get)
+                .description("Transaction logs waiting to be flushed")
+                .register(meterRegistry);
+
+        // 이전 프로세스가 남긴 spill 파일과 저장을 끝내지 못한 replay 파일은 첫 플러시 주기에 저장
+        spillFile = Path.of(spillFilePath);
+        replayFile = spillFile.resolveSibling(spillFile.getFileName() + ".replay");
+        spillPending = Files.exists(spillFile) || Files.exists(replayFile);
+        replayNotBeforeNanos = System.nanoTime();
+        running = true;
+        flusher = Thread.ofPlatform().name("TransactionLogFlusher").daemon().start(this::runFlusher);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(flusher);
+        flusher.join(TimeUnit.SECONDS.toMillis(10));
+        log.info("Transaction logger stopped, {} logs left in queue", queueSize.get());
+    }
+
     public void logTransaction(String action, OrderRequest request) {
         TransactionLog transactionLog = TransactionLog.builder()
                 .orderId(request.getOrderId())
                 .action(action)
                 .timestamp(LocalDateTime.now())
                 .build();
-        logRepository.save(transactionLog);
-        log.info("Transaction logged: {} for order: {}", action, request.getOrderId());
+
+        if (!running) {
+            // 종료 이후 도착한 로그는 호출 스레드에서 바로 저장
+            flush(new ArrayList<>(List.of(transactionLog)));
+            return;
+        }
+
+        if (!tryOffer(transactionLog)) {
+            handleOverflow(transactionLog);
+        }
+        log.debug("Transaction queued: {} for order: {}", action, request.getOrderId());
+    }
+
+    /**
+     * 여러 주문에 대한 동일한 작업을 한 번에 기록
+     * 호출한 트랜잭션에 참여하므로 배치 처리 결과와 감사 로그가 함께 커밋됨
+     */
+    @Transactional(propagation = Propagation.REQUIRED)
+    public void logTransactions(String action, Collection<OrderRequest> requests) {
+        LocalDateTime now = LocalDateTime.now();
+        logRepository.saveAll(requests.stream()
+                .map(request -> TransactionLog.builder()
+                        .orderId(request.getOrderId())
+                        .action(action)
+                        .timestamp(now)
+                        .build())
+                .toList());
+        log.info("Transaction logged: {} for {} orders", action, requests.size());
+    }
+
+    private boolean tryOffer(TransactionLog transactionLog) {
+        int size;
+        do {
+            size = queueSize.get();
+            if (size >= capacity) {
+                return false;
+            }
+        } while (!queueSize.compareAndSet(size, size + 1));
+
+        queue.offer(transactionLog);
+        if (size + 1 == batchSize) {
+            // 배치 크기에 도달하면 max-delay를 기다리지 않고 플러시
+            LockSupport.unpark(flusher);
+        }
+        return true;
+    }
+
+    private void handleOverflow(TransactionLog transactionLog) {
+        switch (overflowPolicy) {
+            case BLOCK -> {
+                while (!tryOffer(transactionLog)) {
+                    if (!running) {
+                        flush(new ArrayList<>(List.of(transactionLog)));
+                        return;
+                    }
+                    LockSupport.parkNanos(BLOCK_PARK_NANOS);
+                }
+            }
+            case DROP -> {
+                droppedCounter.increment();
+                log.warn("Transaction log queue is full, dropped log for order: {}", transactionLog.getOrderId());
+            }
+            case SPILL -> spill(List.of(transactionLog));
+        }
+    }
+
+    private void runFlusher() {
+        long maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMs);
+        List<TransactionLog> batch = new ArrayList<>(batchSize);
+        long deadline = 0L;
+
+        while (running) {
+            TransactionLog next = poll();
+            if (next != null) {
+                if (batch.isEmpty()) {
+                    deadline = System.nanoTime() + maxDelayNanos;
+                }
+                batch.add(next);
+                if (batch.size() >= batchSize) {
+                    flush(batch);
+                }
+                continue;
+            }
+
+            long remaining = deadline - System.nanoTime();
+            if (!batch.isEmpty() && remaining <= 0) {
+                flush(batch);
+            } else if (batch.isEmpty() && spillPending && System.nanoTime() - replayNotBeforeNanos >= 0) {
+                replaySpill();
+            } else {
+                LockSupport.parkNanos(batch.isEmpty() ? maxDelayNanos : remaining);
+            }
+        }
+
+        // 종료 시 큐에 남은 로그를 모두 저장
+        for (TransactionLog next = poll(); next != null; next = poll()) {
+            batch.add(next);
+            if (batch.size() >= batchSize) {
+                flush(batch);
+            }
+        }
+        if (!batch.isEmpty()) {
+            flush(batch);
+        }
+    }
+
+    private TransactionLog poll() {
+        TransactionLog next = queue.poll();
+        if (next != null) {
+            queueSize.decrementAndGet();
+        }
+        return next;
+    }
+
+    private void flush(List<TransactionLog> batch) {
+        try {
+            if (!persist(batch)) {
+                if (overflowPolicy == OverflowPolicy.SPILL) {
+                    spill(batch);
+                } else {
+                    droppedCounter.increment(batch.size());
+                }
+            }
+        } finally {
+            batch.clear();
+        }
+    }
+
+    /**
+     * 한 트랜잭션으로 배치 저장
+     *
+     * @return 저장에 성공했는지 여부 (실패한 배치의 처리는 호출한 쪽이 결정)
+     */
+    private boolean persist(List<TransactionLog> batch) {
+        boolean duringPurge = purgeRunning;
+        long startNanos = System.nanoTime();
+        try {
+            transactionTemplate.executeWithoutResult(status -> logRepository.saveAll(batch));
+            flushedCounter.increment(batch.size());
+            log.debug("Transaction logs flushed: {} rows", batch.size());
+            return true;
+        } catch (Exception e) {
+            log.error("Failed to flush {} transaction logs", batch.size(), e);
+            return false;
+        } finally {
+            // 저장 도중 정리가 시작되거나 끝난 경우도 정리 중으로 집계
+            (duringPurge || purgeRunning ? flushDuringPurgeTimer : flushTimer)
+                    .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 보존 기간 정리 작업의 시작과 종료를 알림
+     * 정리 중 저장 시간은 transaction.logger.flush{purge=running}으로 따로 기록하여
+     * purge=idle과의 차이로 정리 때문에 INSERT가 기다린 시간을 확인
+     */
+    public void setPurgeRunning(boolean running) {
+        this.purgeRunning = running;
+    }
+
+    private void spill(List<TransactionLog> logs) {
+        spillLock.lock();
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (TransactionLog transactionLog : logs) {
+                    writer.write(objectMapper.writeValueAsString(SpilledLog.from(transactionLog)));
+                    writer.newLine();
+                }
+                spilledCounter.increment(logs.size());
+                spillPending = true;
+            } catch (IOException e) {
+                droppedCounter.increment(logs.size());
+                log.error("Failed to spill {} transaction logs", logs.size(), e);
+            }
+        } finally {
+            spillLock.unlock();
+        }
+    }
+
+    private void replaySpill() {
+        spillLock.lock();
+        try {
+            spillPending = false;
+            try {
+                // 저장을 끝내지 못한 replay 파일이 있으면 spill 파일은 다음 차례에 옮김
+                if (Files.exists(replayFile)) {
+                    spillPending = Files.exists(spillFile);
+                } else if (Files.exists(spillFile)) {
+                    Files.move(spillFile, replayFile, StandardCopyOption.ATOMIC_MOVE);
+                } else {
+                    return;
+                }
+            } catch (IOException e) {
+                log.error("Failed to rotate transaction log spill file", e);
+                retryReplayLater();
+                return;
+            }
+        } finally {
+            spillLock.unlock();
+        }
+
+        List<String> lines = new ArrayList<>(batchSize);
+        try (BufferedReader reader = Files.newBufferedReader(replayFile, StandardCharsets.UTF_8)) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                lines.add(line);
+                if (lines.size() >= batchSize && !replayBatch(lines, reader)) {
+                    return;
+                }
+            }
+            if (!lines.isEmpty() && !replayBatch(lines, reader)) {
+                return;
+            }
+        } catch (IOException e) {
+            // 파일 전체를 남기고 다음에 다시 시도
+            log.error("Failed to replay spilled transaction logs from {}", replayFile, e);
+            retryReplayLater();
+            return;
+        }
+
+        try {
+            Files.delete(replayFile);
+            log.info("Replayed spilled transaction logs from {}", spillFile);
+        } catch (IOException e) {
+            log.error("Failed to delete replayed transaction log file {}", replayFile, e);
+        }
+    }
+
+    /**
+     * replay 파일의 한 배치를 저장하고, 실패하면 저장하지 못한 줄(현재 배치와 아직 읽지 않은 줄)만 파일에 남김
+     *
+     * @return 저장에 성공했는지 여부
+     */
+    private boolean replayBatch(List<String> lines, BufferedReader reader) throws IOException {
+        List<TransactionLog> batch = new ArrayList<>(lines.size());
+        for (Iterator<String> iterator = lines.iterator(); iterator.hasNext(); ) {
+            String line = iterator.next();
+            try {
+                batch.add(objectMapper.readValue(line, SpilledLog.class).toEntity());
+            } catch (JsonProcessingException e) {
+                // 다시 시도해도 읽을 수 없는 줄은 버림
+                iterator.remove();
+                droppedCounter.increment();
+                log.error("Dropped malformed spilled transaction log: {}", line, e);
+            }
+        }
+        if (persist(batch)) {
+            lines.clear();
+            return true;
+        }
+
+        Path remainingFile = replayFile.resolveSibling(replayFile.getFileName() + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(remainingFile, StandardCharsets.UTF_8)) {
+            for (String line : lines) {
+                writer.write(line);
+                writer.newLine();
+            }
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                writer.write(line);
+                writer.newLine();
+            }
+        }
+        Files.move(remainingFile, replayFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        log.warn("Kept unsaved spilled transaction logs in {} for retry", replayFile);
+        retryReplayLater();
+        return false;
+    }
+
+    private void retryReplayLater() {
+        replayNotBeforeNanos = System.nanoTime() + REPLAY_RETRY_DELAY_NANOS;
+        spillPending = true;
+    }
+
+    private record SpilledLog(String orderId, String action, String details, LocalDateTime timestamp) {
+        static SpilledLog from(TransactionLog transactionLog) {
+            return new SpilledLog(transactionLog.getOrderId(), transactionLog.getAction(),
+                    transactionLog.getDetails(), transactionLog.getTimestamp());
+        }
+
+        TransactionLog toEntity() {
+            return TransactionLog.builder()
+                    .orderId(orderId)
+                    .action(action)
+                    .details(details)
+                    .timestamp(timestamp)
+                    .build();
+        }
     }
 }
@@ -0,0 +1,297 @@
+package kr.co.pincoin.api.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import kr.co.pincoin.api.diagnostics.ExternalCallEvent;
+import kr.co.pincoin.api.dto.CancellationRequest;
+import kr.co.pincoin.api.dto.OrderRequest;
+import kr.co.pincoin.api.entity.DeadLetter;
+import kr.co.pincoin.api.entity.OutboxEvent;
+import kr.co.pincoin.api.enums.OutboxEventType;
+import kr.co.pincoin.api.enums.OutboxStatus;
+import kr.co.pincoin.api.exception.BulkheadFullException;
+import kr.co.pincoin.api.exception.CircuitOpenException;
+import kr.co.pincoin.api.external.ExternalAPIClient;
+import kr.co.pincoin.api.logger.TransactionLogger;
+import kr.co.pincoin.api.repository.DeadLetterRepository;
+import kr.co.pincoin.api.repository.OutboxEventRepository;
+import kr.co.pincoin.api.resilience.Bulkhead;
+import kr.co.pincoin.api.resilience.CircuitBreaker;
+import kr.co.pincoin.api.resilience.Deadline;
+import kr.co.pincoin.api.resilience.Futures;
+import kr.co.pincoin.api.resilience.Retrier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 사가 보상으로 outbox_events에 기록된 외부 API 취소 요청을 처리하는 릴레이
+ * <p>
+ * [처리 순서]
+ * 1. 취소 중 상태로 오래 남은 이벤트(릴레이 중단)를 대기 상태로 되돌림
+ * 2. 대기 이벤트를 배치 크기만큼 잠금 조회 후 취소 중 상태로 변경 (짧은 트랜잭션)
+ * 3. 트랜잭션 밖에서 보상 전용 벌크헤드를 통해 배치 안의 취소를 병렬 호출
+ * - 외부 API 서킷 브레이커는 주문과 공유하지만, 벌크헤드와 재시도 예산은 따로 두어 밀린 취소가 새 주문을 거부시키지 않음
+ * - 참조번호가 있는 이벤트(헤지 요청에서 진 승인 등)는 그 승인만 취소
+ * - 일시적인 실패는 선점 제한 시간 안에서 재시도 예산만큼 바로 재시도
+ * 4. 취소 완료 이벤트는 한 번의 벌크 업데이트로 완료 처리하고, 보상 감사 로그를 같은 트랜잭션에 기록
+ * 5. 실패 이벤트는 시도 횟수를 증가시켜 다음 주기에 재시도
+ * - 최대 시도 횟수에 도달하면 마지막 실패 원인과 함께 dead_letters로 옮김 (CompensationService로 재처리)
+ * 6. 서킷이 열렸거나 벌크헤드가 가득 차 호출하지 못한 이벤트는 시도 횟수 증가 없이 대기 상태로 되돌림
+ * <p>
+ * 처리량(compensation.relay.events), 보상 기록부터 취소 완료까지의 지연(compensation.relay.delay)을 지표로 노출
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CompensationRelay {
+    private final OutboxEventRepository outboxEventRepository;
+
+    private final DeadLetterRepository deadLetterRepository;
+
+    private final ExternalAPIClient externalAPIClient;
+
+    private final TransactionLogger transactionLogger;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    private final MeterRegistry meterRegistry;
+
+    private final CircuitBreaker externalApiCircuitBreaker;
+
+    private final Bulkhead compensationBulkhead;
+
+    private final Retrier compensationRetrier;
+
+    @Value("${compensation.relay.batch-size:10}")
+    private int batchSize;
+
+    @Value("${compensation.relay.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${compensation.relay.claim-timeout-ms:60000}")
+    private long claimTimeoutMs;
+
+    private Counter cancelledCounter;
+
+    private Counter failedCounter;
+
+    private Counter deadLetteredCounter;
+
+    private Timer cancellationDelayTimer;
+
+    @PostConstruct
+    void registerMetrics() {
+        cancelledCounter = Counter.builder("compensation.relay.events")
+                .description("Cancellation events processed by the compensation relay")
+                .tag("outcome", "cancelled")
+                .register(meterRegistry);
+        failedCounter = Counter.builder("compensation.relay.events")
+                .description("Cancellation events processed by the compensation relay")
+                .tag("outcome", "failed")
+                .register(meterRegistry);
+        deadLetteredCounter = Counter.builder("compensation.relay.events")
+                .description("Cancellation events processed by the compensation relay")
+                .tag("outcome", "dead_lettered")
+                .register(meterRegistry);
+        cancellationDelayTimer = Timer.builder("compensation.relay.delay")
+                .description("Delay between compensation enqueue and successful cancellation")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${compensation.relay.interval-ms:200}")
+    public void relay() {
+        releaseStaleClaims();
+
+        List<OutboxEvent> batch;
+        do {
+            if (!externalApiCircuitBreaker.isCallPermitted()) {
+                // 서킷이 열려 있는 동안에는 이벤트를 선점하지 않음
+                return;
+            }
+            batch = claimBatch();
+            if (!batch.isEmpty()) {
+                cancel(batch);
+            }
+        } while (batch.size() == batchSize);
+    }
+
+    private void releaseStaleClaims() {
+        LocalDateTime claimedBefore = LocalDateTime.now().minus(Duration.ofMillis(claimTimeoutMs));
+        Integer released = transactionTemplate.execute(status -> outboxEventRepository.releaseStaleClaims(
+                OutboxEventType.EXTERNAL_API_CANCELLATION, OutboxStatus.IN_FLIGHT, OutboxStatus.PENDING, claimedBefore));
+        if (released != null && released > 0) {
+            log.warn("Released {} stale cancellation claims", released);
+        }
+    }
+
+    private List<OutboxEvent> claimBatch() {
+        return transactionTemplate.execute(status -> {
+            List<OutboxEvent> events = outboxEventRepository.findByEventTypeAndStatusOrderByIdAsc(
+                    OutboxEventType.EXTERNAL_API_CANCELLATION, OutboxStatus.PENDING, Limit.of(batchSize));
+            if (!events.isEmpty()) {
+                outboxEventRepository.claim(events.stream().map(OutboxEvent::getId).toList(),
+                        OutboxStatus.IN_FLIGHT, LocalDateTime.now());
+            }
+            return events;
+        });
+    }
+
+    private void cancel(List<OutboxEvent> batch) {
+        Outcome outcome = new Outcome();
+
+        // 재시도는 선점이 만료되어 다른 릴레이가 같은 이벤트를 가져가기 전에 끝나야 함
+        Deadline deadline = Deadline.after(Duration.ofMillis(claimTimeoutMs / 2));
+        List<CompletableFuture<Void>> cancellations = new ArrayList<>(batch.size());
+        for (OutboxEvent event : batch) {
+            CancellationRequest request;
+            try {
+                request = objectMapper.readValue(event.getPayload(), CancellationRequest.class);
+            } catch (JsonProcessingException e) {
+                log.error("Malformed cancellation event {}", event.getId(), e);
+                outcome.failed.put(event.getId(), "Malformed payload: " + e.getOriginalMessage());
+                continue;
+            }
+            cancellations.add(cancel(event, request, deadline, outcome));
+        }
+        CompletableFuture.allOf(cancellations.toArray(CompletableFuture[]::new)).join();
+
+        List<OutboxEvent> cancelled = outcome.cancelled.stream().map(Cancellation::event).toList();
+        List<OrderRequest> cancelledRequests = outcome.cancelled.stream()
+                .map(cancellation -> cancellation.request().toOrderRequest())
+                .toList();
+        List<Long> failedIds = List.copyOf(outcome.failed.keySet());
+        List<Long> deferredIds = outcome.deferred.stream().map(OutboxEvent::getId).toList();
+        if (!deferredIds.isEmpty()) {
+            log.warn("External API unavailable, deferred {} cancellations", deferredIds.size());
+        }
+
+        LocalDateTime cancelledAt = LocalDateTime.now();
+        List<DeadLetter> deadLetters = transactionTemplate.execute(status -> {
+            if (!cancelled.isEmpty()) {
+                outboxEventRepository.markDelivered(cancelled.stream().map(OutboxEvent::getId).toList(),
+                        OutboxStatus.DELIVERED, cancelledAt);
+                transactionLogger.logTransactions("Compensation - First API cancellation", cancelledRequests);
+            }
+            List<DeadLetter> exhausted = List.of();
+            if (!failedIds.isEmpty()) {
+                outboxEventRepository.markAttemptFailed(failedIds, OutboxStatus.PENDING);
+                exhausted = deadLetter(failedIds, outcome);
+            }
+            if (!deferredIds.isEmpty()) {
+                outboxEventRepository.claim(deferredIds, OutboxStatus.PENDING, null);
+            }
+            return exhausted;
+        });
+
+        cancelledCounter.increment(cancelled.size());
+        failedCounter.increment(failedIds.size());
+        deadLetteredCounter.increment(deadLetters.size());
+        for (OutboxEvent event : cancelled) {
+            cancellationDelayTimer.record(Duration.between(event.getCreatedAt(), cancelledAt));
+        }
+        for (DeadLetter deadLetter : deadLetters) {
+            log.error("Cancellation for order {} dead-lettered after {} attempts: {}",
+                    deadLetter.getAggregateId(), deadLetter.getAttempts(), deadLetter.getLastError());
+        }
+    }
+
+    /**
+     * 외부 API 취소 호출 한 번 (referenceId가 있으면 해당 승인만 취소)
+     * JFR 녹화 중이면 ExternalCallEvent로 소요 시간을 남김
+     */
+    private void callCancel(OrderRequest orderRequest, String referenceId) {
+        ExternalCallEvent event = ExternalCallEvent.start(referenceId == null
+                ? ExternalCallEvent.CANCEL : ExternalCallEvent.CANCEL_REFERENCE);
+        boolean success = false;
+        try {
+            if (referenceId == null) {
+                externalAPIClient.cancelAsync(orderRequest);
+            } else {
+                externalAPIClient.cancelAsync(orderRequest, referenceId);
+            }
+            success = true;
+        } finally {
+            event.finish(orderRequest.getOrderId(), success);
+        }
+    }
+
+    /**
+     * 최대 시도 횟수에 도달한 실패 이벤트를 마지막 실패 원인과 함께 dead_letters로 옮김
+     */
+    private List<DeadLetter> deadLetter(List<Long> failedIds, Outcome outcome) {
+        List<OutboxEvent> exhausted = outboxEventRepository.findByIdInAndAttemptsGreaterThanEqual(failedIds, maxAttempts);
+        if (exhausted.isEmpty()) {
+            return List.of();
+        }
+        List<DeadLetter> deadLetters = deadLetterRepository.saveAll(exhausted.stream()
+                .map(event -> DeadLetter.from(event, outcome.failed.get(event.getId())))
+                .toList());
+        outboxEventRepository.deleteAllInBatch(exhausted);
+        return deadLetters;
+    }
+
+    private CompletableFuture<Void> cancel(OutboxEvent event, CancellationRequest request, Deadline deadline,
+                                           Outcome outcome) {
+        OrderRequest orderRequest = request.toOrderRequest();
+        return compensationRetrier.execute(() -> compensationBulkhead.supplyAsync(() -> {
+                    externalApiCircuitBreaker.run(() -> callCancel(orderRequest, request.getReferenceId()));
+                    return (Void) null;
+                }), deadline)
+                .handle((result, e) -> {
+                    if (e == null) {
+                        outcome.cancelled.add(new Cancellation(event, request));
+                        return null;
+                    }
+                    Throwable failure = Futures.unwrap(e);
+                    if (failure instanceof CircuitOpenException || failure instanceof BulkheadFullException) {
+                        // 호출하지 못한 이벤트는 시도 횟수를 늘리지 않고 다음 주기로 미룸
+                        outcome.deferred.add(event);
+                    } else {
+                        log.warn("Cancellation failed for order {}, will retry: {}",
+                                request.getOrderId(), failure.toString());
+                        outcome.failed.put(event.getId(), failure.toString());
+                    }
+                    return null;
+                });
+    }
+
+    /**
+     * 취소할 이벤트와 역직렬화한 주문 요청
+     */
+    private record Cancellation(OutboxEvent event, CancellationRequest request) {
+    }
+
+    /**
+     * 한 배치의 취소 결과 (여러 벌크헤드 스레드에서 기록)
+     */
+    private static class Outcome {
+        private final Queue<Cancellation> cancelled = new ConcurrentLinkedQueue<>();
+
+        // 실패한 이벤트 ID와 마지막 실패 원인
+        private final Map<Long, String> failed = new ConcurrentHashMap<>();
+
+        private final Queue<OutboxEvent> deferred = new ConcurrentLinkedQueue<>();
+    }
+}
@@ -0,0 +1,290 @@
+package kr.co.pincoin.api.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import kr.co.pincoin.api.diagnostics.NotificationEvent;
+import kr.co.pincoin.api.dto.OrderRequest;
+import kr.co.pincoin.api.entity.OutboxEvent;
+import kr.co.pincoin.api.enums.OutboxEventType;
+import kr.co.pincoin.api.enums.OutboxStatus;
+import kr.co.pincoin.api.exception.BulkheadFullException;
+import kr.co.pincoin.api.exception.CircuitOpenException;
+import kr.co.pincoin.api.external.NotificationAPIClient;
+import kr.co.pincoin.api.logger.TransactionLogger;
+import kr.co.pincoin.api.repository.OutboxEventRepository;
+import kr.co.pincoin.api.resilience.Bulkhead;
+import kr.co.pincoin.api.resilience.CircuitBreaker;
+import kr.co.pincoin.api.resilience.Deadline;
+import kr.co.pincoin.api.resilience.Futures;
+import kr.co.pincoin.api.resilience.Retrier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * outbox_events에 기록된 알림 이벤트를 배치 단위로 발송하는 릴레이
+ * <p>
+ * [처리 순서]
+ * 1. 발송 중 상태로 오래 남은 이벤트(릴레이 중단)를 대기 상태로 되돌림
+ * 2. 대기 이벤트를 배치 크기만큼 잠금 조회 후 발송 중 상태로 변경 (짧은 트랜잭션)
+ * - 대기 이벤트가 notify-batch-size건보다 적으면 가장 오래된 이벤트가 max-linger-ms를 넘을 때까지 모아 둠
+ * 3. 트랜잭션 밖에서 notify-batch-size건씩 묶어 알림 전용 벌크헤드를 통해 NotificationAPIClient.notifyBatch를 병렬 호출
+ * - 일시적인 실패는 선점 제한 시간 안에서 바로 재시도하여 다음 주기까지 기다리지 않음
+ * - 재시도 후에도 실패한 묶음은 절반으로 나누어 다시 발송 (한 건이 될 때까지)
+ * 4. 발송 완료 이벤트는 한 번의 벌크 업데이트로 완료 처리하고, 감사 로그를 같은 트랜잭션에 기록
+ * 5. 실패 이벤트는 시도 횟수를 증가시켜 다음 주기에 재시도, 최대 시도 횟수 초과 시 FAILED
+ * 6. 서킷이 열렸거나 벌크헤드가 가득 차 호출하지 못한 이벤트는 시도 횟수 증가 없이 대기 상태로 되돌림
+ * <p>
+ * 처리량(outbox.relay.events), 커밋부터 발송까지의 지연(outbox.relay.delay),
+ * 호출당 알림 수(outbox.relay.batch.size)와 실패한 묶음을 나눈 횟수(outbox.relay.splits)를 지표로 노출
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxRelay {
+    private final OutboxEventRepository outboxEventRepository;
+
+    private final NotificationAPIClient notificationAPIClient;
+
+    private final TransactionLogger transactionLogger;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    private final MeterRegistry meterRegistry;
+
+    private final CircuitBreaker notificationCircuitBreaker;
+
+    private final Bulkhead notificationBulkhead;
+
+    private final Retrier notificationRetrier;
+
+    @Value("${outbox.relay.batch-size:100}")
+    private int batchSize;
+
+    @Value("${outbox.relay.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${outbox.relay.claim-timeout-ms:60000}")
+    private long claimTimeoutMs;
+
+    @Value("${outbox.relay.notify-batch-size:20}")
+    private int notifyBatchSize;
+
+    @Value("${outbox.relay.max-linger-ms:200}")
+    private long maxLingerMs;
+
+    private Counter deliveredCounter;
+
+    private Counter failedCounter;
+
+    private Timer deliveryDelayTimer;
+
+    private DistributionSummary batchSizeSummary;
+
+    private Counter splitCounter;
+
+    @PostConstruct
+    void registerMetrics() {
+        deliveredCounter = Counter.builder("outbox.relay.events")
+                .description("Outbox events processed by the relay")
+                .tag("outcome", "delivered")
+                .register(meterRegistry);
+        failedCounter = Counter.builder("outbox.relay.events")
+                .description("Outbox events processed by the relay")
+                .tag("outcome", "failed")
+                .register(meterRegistry);
+        deliveryDelayTimer = Timer.builder("outbox.relay.delay")
+                .description("Delay between outbox commit and delivery")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        batchSizeSummary = DistributionSummary.builder("outbox.relay.batch.size")
+                .description("Notifications sent per notification API call")
+                .register(meterRegistry);
+        splitCounter = Counter.builder("outbox.relay.splits")
+                .description("Failed notification batches split in half and resent")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:200}")
+    public void relay() {
+        releaseStaleClaims();
+
+        List<OutboxEvent> batch;
+        do {
+            if (!notificationCircuitBreaker.isCallPermitted()) {
+                // 서킷이 열려 있는 동안에는 이벤트를 선점하지 않음
+                return;
+            }
+            batch = claimBatch();
+            if (!batch.isEmpty()) {
+                deliver(batch);
+            }
+        } while (batch.size() == batchSize);
+    }
+
+    private void releaseStaleClaims() {
+        LocalDateTime claimedBefore = LocalDateTime.now().minus(Duration.ofMillis(claimTimeoutMs));
+        Integer released = transactionTemplate.execute(status -> outboxEventRepository.releaseStaleClaims(
+                OutboxEventType.ORDER_NOTIFICATION, OutboxStatus.IN_FLIGHT, OutboxStatus.PENDING, claimedBefore));
+        if (released != null && released > 0) {
+            log.warn("Released {} stale outbox claims", released);
+        }
+    }
+
+    private List<OutboxEvent> claimBatch() {
+        return transactionTemplate.execute(status -> {
+            List<OutboxEvent> events = outboxEventRepository.findByEventTypeAndStatusOrderByIdAsc(
+                    OutboxEventType.ORDER_NOTIFICATION, OutboxStatus.PENDING, Limit.of(batchSize));
+            if (events.size() < notifyBatchSize && !events.isEmpty()
+                    && events.getFirst().getCreatedAt().isAfter(LocalDateTime.now().minus(Duration.ofMillis(maxLingerMs)))) {
+                // 한 번의 호출로 보낼 만큼 모이지 않았고 아직 오래 기다리지도 않은 경우
+                return List.of();
+            }
+            if (!events.isEmpty()) {
+                outboxEventRepository.claim(events.stream().map(OutboxEvent::getId).toList(),
+                        OutboxStatus.IN_FLIGHT, LocalDateTime.now());
+            }
+            return events;
+        });
+    }
+
+    private void deliver(List<OutboxEvent> batch) {
+        Outcome outcome = new Outcome();
+        List<Delivery> deliveries = new ArrayList<>(batch.size());
+        for (OutboxEvent event : batch) {
+            try {
+                deliveries.add(new Delivery(event, objectMapper.readValue(event.getPayload(), OrderRequest.class)));
+            } catch (JsonProcessingException e) {
+                log.error("Malformed outbox event {}", event.getId(), e);
+                outcome.failed.add(event);
+            }
+        }
+
+        // notify-batch-size건씩 묶어 전용 벌크헤드에서 병렬로 발송
+        // 재시도는 선점이 만료되어 다른 릴레이가 같은 이벤트를 가져가기 전에 끝나야 함
+        Deadline deadline = Deadline.after(Duration.ofMillis(claimTimeoutMs / 2));
+        List<CompletableFuture<Void>> sends = new ArrayList<>();
+        for (int from = 0; from < deliveries.size(); from += notifyBatchSize) {
+            sends.add(send(deliveries.subList(from, Math.min(from + notifyBatchSize, deliveries.size())),
+                    deadline, outcome));
+        }
+        CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)).join();
+
+        List<OutboxEvent> delivered = outcome.delivered.stream().map(Delivery::event).toList();
+        List<OrderRequest> deliveredRequests = outcome.delivered.stream().map(Delivery::request).toList();
+        List<Long> failedIds = outcome.failed.stream().map(OutboxEvent::getId).toList();
+        List<Long> deferredIds = outcome.deferred.stream().map(OutboxEvent::getId).toList();
+        if (!deferredIds.isEmpty()) {
+            log.warn("Notification API unavailable, deferred {} outbox events", deferredIds.size());
+        }
+
+        LocalDateTime deliveredAt = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!delivered.isEmpty()) {
+                outboxEventRepository.markDelivered(delivered.stream().map(OutboxEvent::getId).toList(),
+                        OutboxStatus.DELIVERED, deliveredAt);
+                transactionLogger.logTransactions("Second External API call (Notification)", deliveredRequests);
+            }
+            if (!failedIds.isEmpty()) {
+                outboxEventRepository.markAttemptFailed(failedIds, OutboxStatus.PENDING);
+                outboxEventRepository.markExhausted(failedIds, OutboxStatus.FAILED, maxAttempts);
+            }
+            if (!deferredIds.isEmpty()) {
+                outboxEventRepository.claim(deferredIds, OutboxStatus.PENDING, null);
+            }
+        });
+
+        deliveredCounter.increment(delivered.size());
+        failedCounter.increment(failedIds.size());
+        for (OutboxEvent event : delivered) {
+            deliveryDelayTimer.record(Duration.between(event.getCreatedAt(), deliveredAt));
+        }
+    }
+
+    /**
+     * 알림 API 호출 한 번
+     * JFR 녹화 중이면 NotificationEvent로 소요 시간을 남김
+     */
+    private void callNotification(List<OrderRequest> requests) {
+        NotificationEvent event = NotificationEvent.start();
+        boolean success = false;
+        try {
+            notificationAPIClient.notifyBatch(requests);
+            success = true;
+        } finally {
+            event.finish(requests, success);
+        }
+    }
+
+    /**
+     * 알림 묶음 하나를 한 번의 notifyBatch 호출로 발송
+     * 재시도 후에도 실패하면 묶음을 절반으로 나누어 다시 발송하여, 발송할 수 없는 알림만 실패로 남김
+     */
+    private CompletableFuture<Void> send(List<Delivery> chunk, Deadline deadline, Outcome outcome) {
+        List<OrderRequest> requests = chunk.stream().map(Delivery::request).toList();
+        batchSizeSummary.record(chunk.size());
+        return notificationRetrier.execute(() -> notificationBulkhead.supplyAsync(() -> {
+                    notificationCircuitBreaker.run(() -> callNotification(requests));
+                    return (Void) null;
+                }), deadline)
+                .handle((result, e) -> e == null ? null : Futures.unwrap(e))
+                .thenCompose(failure -> {
+                    if (failure == null) {
+                        outcome.delivered.addAll(chunk);
+                        return CompletableFuture.completedFuture(null);
+                    }
+                    if (failure instanceof CircuitOpenException || failure instanceof BulkheadFullException) {
+                        // 호출하지 못한 이벤트는 시도 횟수를 늘리지 않고 다음 주기로 미룸
+                        chunk.forEach(delivery -> outcome.deferred.add(delivery.event()));
+                        return CompletableFuture.completedFuture(null);
+                    }
+                    if (chunk.size() == 1 || deadline.isExpired()) {
+                        // 알림 발송 실패는 주문/결제에 영향 없이 다음 주기에 재시도
+                        log.error("Notification API call failed for {} outbox events, will retry", chunk.size(), failure);
+                        chunk.forEach(delivery -> outcome.failed.add(delivery.event()));
+                        return CompletableFuture.completedFuture(null);
+                    }
+                    splitCounter.increment();
+                    int half = chunk.size() / 2;
+                    return CompletableFuture.allOf(
+                            send(chunk.subList(0, half), deadline, outcome),
+                            send(chunk.subList(half, chunk.size()), deadline, outcome));
+                });
+    }
+
+    /**
+     * 발송할 이벤트와 역직렬화한 주문 요청
+     */
+    private record Delivery(OutboxEvent event, OrderRequest request) {
+    }
+
+    /**
+     * 한 배치의 발송 결과 (여러 벌크헤드 스레드에서 기록)
+     */
+    private static class Outcome {
+        private final Queue<Delivery> delivered = new ConcurrentLinkedQueue<>();
+
+        private final Queue<OutboxEvent> failed = new ConcurrentLinkedQueue<>();
+
+        private final Queue<OutboxEvent> deferred = new ConcurrentLinkedQueue<>();
+    }
+}
@@ -0,0 +1,22 @@
+package kr.co.pincoin.api.repository;
+
+import jakarta.persistence.LockModeType;
+import kr.co.pincoin.api.entity.DeadLetter;
+import kr.co.pincoin.api.enums.OutboxEventType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+
+import java.util.List;
+
+public interface DeadLetterRepository extends JpaRepository<DeadLetter, Long> {
+    List<DeadLetter> findByEventTypeOrderByIdAsc(OutboxEventType eventType, Limit limit);
+
+    /**
+     * 재처리 대상 조회 (동시에 재처리를 요청해도 같은 이벤트가 두 번 되돌아가지 않도록 잠금)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<DeadLetter> findForUpdateByEventTypeOrderByIdAsc(OutboxEventType eventType, Limit limit);
+
+    long countByEventType(OutboxEventType eventType);
+}
@@ -1,7 +1,40 @@
 package kr.co.pincoin.api.repository;
 
+import jakarta.persistence.QueryHint;
+import kr.co.pincoin.api.dto.OrderSummary;
 import kr.co.pincoin.api.entity.Order;
+import kr.co.pincoin.api.enums.OrderStatus;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
-}
\ No newline at end of file
+    // uk_orders_order_id 유일 제약의 인덱스로 조회, 결과 식별자는 쿼리 캐시에 저장 (orders 변경 시 무효화)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    Optional<Order> findByOrderId(String orderId);
+
+    // 주문번호로 createdAt 이후 저장된 주문 조회 (같은 주문번호로 먼저 저장된 다른 요청의 주문은 제외)
+    Optional<Order> findByOrderIdAndCreatedAtGreaterThanEqual(String orderId, LocalDateTime createdAt);
+
+    // 키셋 페이지네이션: (createdAt, id) 내림차순으로 커서 위치보다 앞선 항목 조회
+    // 선두 조건(createdAt <= :createdAt)으로 인덱스 범위 검색을 시작하므로 페이지 깊이와 관계없이 limit건만 읽음
+    @Query("select new kr.co.pincoin.api.dto.OrderSummary(o.id, o.orderId, o.amount, o.status, o.createdAt)"
+            + " from Order o"
+            + " where o.createdAt <= :createdAt and (o.createdAt < :createdAt or o.id < :id)"
+            + " order by o.createdAt desc, o.id desc")
+    List<OrderSummary> findSummariesBefore(LocalDateTime createdAt, Long id, Limit limit);
+
+    // 상태 필터는 (status, createdAt, id) 인덱스 순서로 읽도록 고정값인 status도 정렬 조건에 포함 (없으면 H2가 범위 전체를 읽고 정렬)
+    @Query("select new kr.co.pincoin.api.dto.OrderSummary(o.id, o.orderId, o.amount, o.status, o.createdAt)"
+            + " from Order o"
+            + " where o.status = :status"
+            + " and o.createdAt <= :createdAt and (o.createdAt < :createdAt or o.id < :id)"
+            + " order by o.status desc, o.createdAt desc, o.id desc")
+    List<OrderSummary> findSummariesByStatusBefore(OrderStatus status, LocalDateTime createdAt, Long id, Limit limit);
+}
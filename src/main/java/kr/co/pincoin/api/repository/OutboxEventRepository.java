@@ -0,0 +1,44 @@
+package kr.co.pincoin.api.repository;
+
+import jakarta.persistence.LockModeType;
+import kr.co.pincoin.api.entity.OutboxEvent;
+import kr.co.pincoin.api.enums.OutboxEventType;
+import kr.co.pincoin.api.enums.OutboxStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<OutboxEvent> findByEventTypeAndStatusOrderByIdAsc(OutboxEventType eventType, OutboxStatus status, Limit limit);
+
+    List<OutboxEvent> findByIdInAndAttemptsGreaterThanEqual(Collection<Long> ids, int attempts);
+
+    @Modifying
+    @Query("update OutboxEvent e set e.status = :status, e.claimedAt = :claimedAt where e.id in :ids")
+    int claim(Collection<Long> ids, OutboxStatus status, LocalDateTime claimedAt);
+
+    @Modifying
+    @Query("update OutboxEvent e set e.status = :pending"
+            + " where e.eventType = :eventType and e.status = :inFlight and e.claimedAt < :claimedBefore")
+    int releaseStaleClaims(OutboxEventType eventType, OutboxStatus inFlight, OutboxStatus pending,
+                           LocalDateTime claimedBefore);
+
+    @Modifying
+    @Query("update OutboxEvent e set e.status = :status, e.deliveredAt = :deliveredAt where e.id in :ids")
+    int markDelivered(Collection<Long> ids, OutboxStatus status, LocalDateTime deliveredAt);
+
+    @Modifying
+    @Query("update OutboxEvent e set e.status = :status, e.attempts = e.attempts + 1 where e.id in :ids")
+    int markAttemptFailed(Collection<Long> ids, OutboxStatus status);
+
+    @Modifying
+    @Query("update OutboxEvent e set e.status = :status where e.id in :ids and e.attempts >= :maxAttempts")
+    int markExhausted(Collection<Long> ids, OutboxStatus status, int maxAttempts);
+}
@@ -1,7 +1,40 @@
 package kr.co.pincoin.api.repository;
 
+import jakarta.persistence.QueryHint;
+import kr.co.pincoin.api.dto.PaymentSummary;
 import kr.co.pincoin.api.entity.Payment;
+import kr.co.pincoin.api.enums.PaymentStatus;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
-}
\ No newline at end of file
+    boolean existsByOrderId(String orderId);
+
+    // idx_payments_order_id 인덱스로 조회, 가장 최근 결제 (쿼리 캐시, payments 변경 시 무효화)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    Optional<Payment> findFirstByOrderIdOrderByIdDesc(String orderId);
+
+    // 키셋 페이지네이션: (processedAt, id) 내림차순으로 커서 위치보다 앞선 항목 조회
+    // 선두 조건(processedAt <= :processedAt)으로 인덱스 범위 검색을 시작하므로 페이지 깊이와 관계없이 limit건만 읽음
+    @Query("select new kr.co.pincoin.api.dto.PaymentSummary(p.id, p.orderId, p.amount, p.externalReference, p.status, p.processedAt)"
+            + " from Payment p"
+            + " where p.processedAt <= :processedAt and (p.processedAt < :processedAt or p.id < :id)"
+            + " order by p.processedAt desc, p.id desc")
+    List<PaymentSummary> findSummariesBefore(LocalDateTime processedAt, Long id, Limit limit);
+
+    // 상태 필터는 (status, processedAt, id) 인덱스 순서로 읽도록 고정값인 status도 정렬 조건에 포함 (없으면 H2가 범위 전체를 읽고 정렬)
+    @Query("select new kr.co.pincoin.api.dto.PaymentSummary(p.id, p.orderId, p.amount, p.externalReference, p.status, p.processedAt)"
+            + " from Payment p"
+            + " where p.status = :status"
+            + " and p.processedAt <= :processedAt and (p.processedAt < :processedAt or p.id < :id)"
+            + " order by p.status desc, p.processedAt desc, p.id desc")
+    List<PaymentSummary> findSummariesByStatusBefore(PaymentStatus status, LocalDateTime processedAt, Long id,
+                                                     Limit limit);
+}
@@ -0,0 +1,26 @@
+package kr.co.pincoin.api.repository;
+
+import kr.co.pincoin.api.entity.SagaState;
+import kr.co.pincoin.api.enums.SagaStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface SagaStateRepository extends JpaRepository<SagaState, Long> {
+    List<SagaState> findByStatusInAndCreatedAtBeforeAndIdGreaterThanOrderByIdAsc(
+            Collection<SagaStatus> statuses, LocalDateTime createdBefore, Long id, Limit limit);
+
+    @Modifying
+    @Query("update SagaState s set s.status = :status, s.stepIndex = :stepIndex, s.stepName = :stepName, " +
+            "s.payload = :payload, s.updatedAt = :updatedAt where s.id = :id")
+    int advance(Long id, SagaStatus status, int stepIndex, String stepName, String payload, LocalDateTime updatedAt);
+
+    @Modifying
+    @Query("update SagaState s set s.status = :status, s.updatedAt = :updatedAt where s.id = :id")
+    int updateStatus(Long id, SagaStatus status, LocalDateTime updatedAt);
+}
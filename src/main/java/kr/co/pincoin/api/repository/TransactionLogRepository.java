@@ -1,7 +1,35 @@
 package kr.co.pincoin.api.repository;
 
+import jakarta.persistence.QueryHint;
 import kr.co.pincoin.api.entity.TransactionLog;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
 
 public interface TransactionLogRepository extends JpaRepository<TransactionLog, Long> {
-}
\ No newline at end of file
+    // 내보내기용 스트림 조회 (조건이 null이면 적용하지 않음)
+    // 드라이버가 1000행(fetch size) 단위로 행을 가져오고, 읽기 전용으로 조회하여 변경 감지용 스냅샷을 만들지 않음
+    // 트랜잭션 안에서만 사용할 수 있으며 사용 후 반드시 닫아야 함
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select t from TransactionLog t"
+            + " where (:orderId is null or t.orderId = :orderId)"
+            + " and (:action is null or t.action = :action)"
+            + " and (:from is null or t.timestamp >= :from)"
+            + " and (:to is null or t.timestamp < :to)"
+            + " order by t.id")
+    Stream<TransactionLog> streamForExport(String orderId, String action, LocalDateTime from, LocalDateTime to);
+
+    // 보존 기간이 지난 버킷의 로그 식별자를 오래된 순으로 limit건 조회 (bucket, id 인덱스 범위 스캔)
+    @Query("select t.id from TransactionLog t where t.bucket < :cutoff order by t.bucket, t.id")
+    List<Long> findIdsByBucketBefore(LocalDate cutoff, Limit limit);
+}
@@ -0,0 +1,197 @@
+package kr.co.pincoin.api.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.co.pincoin.api.exception.BulkheadFullException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * 외부 연동 하나가 전용으로 사용하는 제한된 크기의 실행기 (벌크헤드)
+ * <p>
+ * - 동시에 maxConcurrentCalls건까지 실행하고, 초과분은 queueCapacity건까지 대기
+ * - 대기열도 가득 차면 작업을 제출하지 않고 BulkheadFullException으로 즉시 실패
+ * - 연동마다 스레드와 대기열이 분리되어 느린 연동이 다른 연동의 처리를 막지 않음
+ * - 플랫폼 스레드 모드는 고정 크기 스레드 풀, 가상 스레드 모드는 호출마다 가상 스레드를 만들고
+ * 세마포어로 동시 실행 수를 제한 (대기 중인 호출은 캐리어 스레드를 점유하지 않음)
+ * - 반환한 Future를 cancel(true)로 취소하면 대기 중인 호출은 실행하지 않고, 실행 중인 호출은 스레드를 인터럽트
+ * - 지표: bulkhead.active, bulkhead.queued, bulkhead.rejected (name 태그)
+ */
+@Slf4j
+public class Bulkhead {
+    private final String name;
+
+    private final int maxConcurrentCalls;
+
+    private final int maxAdmitted;
+
+    private final AsyncTaskExecutor executor;
+
+    /**
+     * 실행 중이거나 대기 중인 호출 수 제한 (maxConcurrentCalls + queueCapacity)
+     */
+    private final Semaphore admitted;
+
+    /**
+     * 동시에 실행 중인 호출 수 제한 (maxConcurrentCalls)
+     */
+    private final Semaphore running;
+
+    private final Counter rejectedCounter;
+
+    public Bulkhead(String name, int maxConcurrentCalls, int queueCapacity, boolean virtualThreads,
+                    MeterRegistry meterRegistry) {
+        this.name = name;
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.maxAdmitted = maxConcurrentCalls + queueCapacity;
+        this.admitted = new Semaphore(maxAdmitted);
+        this.running = new Semaphore(maxConcurrentCalls);
+        this.executor = virtualThreads
+                ? virtualThreadExecutor(name)
+                : platformThreadExecutor(name, maxConcurrentCalls, queueCapacity);
+
+        this.rejectedCounter = meterRegistry.counter("bulkhead.rejected", "name", name);
+        Gauge.builder("bulkhead.active", this, Bulkhead::getActiveCount)
+                .description("Calls currently running in the bulkhead")
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("bulkhead.queued", this, Bulkhead::getQueuedCount)
+                .description("Calls waiting for a bulkhead thread")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    private static AsyncTaskExecutor platformThreadExecutor(String name, int maxConcurrentCalls, int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrentCalls);
+        executor.setMaxPoolSize(maxConcurrentCalls);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("Bulkhead-" + name + "-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    private static AsyncTaskExecutor virtualThreadExecutor(String name) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("Bulkhead-" + name + "-");
+        executor.setVirtualThreads(true);
+        executor.setTaskTerminationTimeout(10_000L);
+        return executor;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getActiveCount() {
+        return maxConcurrentCalls - running.availablePermits();
+    }
+
+    public int getQueuedCount() {
+        return Math.max(0, maxAdmitted - admitted.availablePermits() - getActiveCount());
+    }
+
+    /**
+     * 대기열에 여유가 있는지 확인
+     * 여러 단계를 거치는 처리를 시작하기 전에 빠르게 거부하는 용도
+     */
+    public boolean hasCapacity() {
+        return admitted.availablePermits() > 0;
+    }
+
+    /**
+     * 벌크헤드 스레드에서 작업 실행
+     *
+     * @return 작업 결과를 담은 Future, 벌크헤드가 가득 찬 경우 BulkheadFullException으로 완료
+     */
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> task) {
+        if (!admitted.tryAcquire()) {
+            return reject(null);
+        }
+        InterruptibleFuture<T> future = new InterruptibleFuture<>(() -> {
+            running.acquire();
+            try {
+                return task.get();
+            } finally {
+                running.release();
+            }
+        });
+        try {
+            executor.execute(() -> {
+                try {
+                    future.task.run();
+                } finally {
+                    admitted.release();
+                }
+            });
+            return future;
+        } catch (TaskRejectedException e) {
+            // 종료 중인 실행기에 제출한 경우
+            admitted.release();
+            return reject(e);
+        }
+    }
+
+    private <T> CompletableFuture<T> reject(Throwable cause) {
+        rejectedCounter.increment();
+        log.warn("Bulkhead {} is full, rejecting call", name);
+        return CompletableFuture.failedFuture(new BulkheadFullException("Bulkhead " + name + " is full", cause));
+    }
+
+    public void shutdown() {
+        if (executor instanceof ThreadPoolTaskExecutor threadPool) {
+            threadPool.shutdown();
+        } else if (executor instanceof SimpleAsyncTaskExecutor virtualThreads) {
+            virtualThreads.close();
+        }
+    }
+
+    /**
+     * 취소하면 작업을 실행 중인 스레드까지 인터럽트하는 Future
+     * CompletableFuture.cancel은 실행 중인 작업을 멈추지 않으므로 FutureTask로 작업을 감싸 취소를 전달
+     */
+    private static class InterruptibleFuture<T> extends CompletableFuture<T> {
+        private final FutureTask<T> task;
+
+        InterruptibleFuture(Callable<T> callable) {
+            this.task = new FutureTask<>(callable) {
+                @Override
+                protected void done() {
+                    if (isCancelled()) {
+                        return;
+                    }
+                    try {
+                        InterruptibleFuture.this.complete(get());
+                    } catch (ExecutionException e) {
+                        // CompletableFuture.supplyAsync와 같이 CompletionException으로 감싸서 전달
+                        InterruptibleFuture.this.completeExceptionally(e.getCause() instanceof CompletionException
+                                ? e.getCause()
+                                : new CompletionException(e.getCause()));
+                    } catch (InterruptedException | CancellationException e) {
+                        InterruptibleFuture.this.completeExceptionally(e);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            task.cancel(mayInterruptIfRunning);
+            return cancelled;
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package kr.co.pincoin.api.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.co.pincoin.api.enums.CircuitState;
+import kr.co.pincoin.api.exception.CircuitOpenException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 외부 연동 호출을 감싸는 서킷 브레이커
+ * <p>
+ * [상태 전이]
+ * - CLOSED: 최근 windowSize건의 실패율 또는 느린 호출 비율이 임계치를 넘으면 OPEN
+ * - OPEN: 호출을 즉시 CircuitOpenException으로 거부, openDuration이 지나면 HALF_OPEN
+ * - HALF_OPEN: halfOpenCalls건의 시험 호출만 허용하고 그 결과로 CLOSED 또는 OPEN 결정
+ * <p>
+ * 상태와 상태별 집계는 하나의 Phase 객체로 묶어 CAS로 교체하므로 잠금이 없음
+ * 상태가 바뀐 뒤 도착한 이전 상태의 호출 결과는 집계하지 않음
+ * <p>
+ * 호출자가 마감 시각 초과로 취소하여 중단된 호출은 성공으로 보지 않고 느린 호출로 집계
+ * (응답하지 않는 상대와 짧은 마감 시각이 함께 있어도 느린 호출 비율로 OPEN 전환)
+ */
+@Slf4j
+public class CircuitBreaker {
+    private final String name;
+
+    private final CircuitBreakerSettings settings;
+
+    private final LongSupplier nanoClock;
+
+    private final long slowCallNanos;
+
+    private final long openNanos;
+
+    private final AtomicReference<Phase> phase;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Counter successCounter;
+
+    private final Counter failureCounter;
+
+    private final Counter rejectedCounter;
+
+    private final Counter cancelledCounter;
+
+    private final Counter slowCounter;
+
+    public CircuitBreaker(String name, CircuitBreakerSettings settings, MeterRegistry meterRegistry) {
+        this(name, settings, meterRegistry, System::nanoTime);
+    }
+
+    CircuitBreaker(String name, CircuitBreakerSettings settings, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.name = name;
+        this.settings = settings;
+        this.nanoClock = nanoClock;
+        this.slowCallNanos = settings.slowCallDuration().toNanos();
+        this.openNanos = settings.openDuration().toNanos();
+        this.meterRegistry = meterRegistry;
+        this.phase = new AtomicReference<>(newPhase(CircuitState.CLOSED));
+
+        this.successCounter = meterRegistry.counter("circuit.breaker.calls", "name", name, "outcome", "success");
+        this.failureCounter = meterRegistry.counter("circuit.breaker.calls", "name", name, "outcome", "failure");
+        this.rejectedCounter = meterRegistry.counter("circuit.breaker.calls", "name", name, "outcome", "rejected");
+        this.cancelledCounter = meterRegistry.counter("circuit.breaker.calls", "name", name, "outcome", "cancelled");
+        this.slowCounter = meterRegistry.counter("circuit.breaker.slow.calls", "name", name);
+        Gauge.builder("circuit.breaker.state", phase, current -> current.get().state.ordinal())
+                .description("Circuit state (0: closed, 1: open, 2: half-open)")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public CircuitState getState() {
+        return phase.get().state;
+    }
+
+    /**
+     * 호출이 거부될 상태인지 확인 (HALF_OPEN 시험 호출 권한은 소모하지 않음)
+     * 여러 단계를 거치는 처리를 시작하기 전에 빠르게 거부하는 용도
+     */
+    public boolean isCallPermitted() {
+        Phase current = phase.get();
+        return current.state != CircuitState.OPEN || nanoClock.getAsLong() - current.enteredAtNanos >= openNanos;
+    }
+
+    /**
+     * 동기 호출 실행
+     *
+     * @throws CircuitOpenException 서킷이 열려 있는 경우
+     */
+    public <T> T execute(Supplier<T> call) {
+        Phase acquired = acquirePermission();
+        long startNanos = nanoClock.getAsLong();
+        try {
+            T result = call.get();
+            long elapsedNanos = nanoClock.getAsLong() - startNanos;
+            successCounter.increment();
+            record(acquired, false, elapsedNanos >= slowCallNanos);
+            return result;
+        } catch (Throwable e) {
+            // Error(OOM, StackOverflowError 등)도 실패로 기록하여 HALF_OPEN 시험 호출 권한이 결과 없이 소모되지 않도록 함
+            long elapsedNanos = nanoClock.getAsLong() - startNanos;
+            if (Thread.currentThread().isInterrupted()) {
+                // 호출자가 마감 시각 초과로 취소하여 중단된 호출은 상대의 실패가 아니지만 제때 응답하지 못했으므로 느린 호출로 집계
+                cancelledCounter.increment();
+                record(acquired, false, true);
+            } else {
+                failureCounter.increment();
+                record(acquired, true, elapsedNanos >= slowCallNanos);
+            }
+            throw e;
+        }
+    }
+
+    public void run(Runnable call) {
+        execute(() -> {
+            call.run();
+            return null;
+        });
+    }
+
+    private Phase acquirePermission() {
+        while (true) {
+            Phase current = phase.get();
+            switch (current.state) {
+                case CLOSED -> {
+                    return current;
+                }
+                case OPEN -> {
+                    if (nanoClock.getAsLong() - current.enteredAtNanos < openNanos) {
+                        throw reject();
+                    }
+                    transition(current, CircuitState.HALF_OPEN);
+                }
+                case HALF_OPEN -> {
+                    if (current.permits.getAndDecrement() > 0) {
+                        return current;
+                    }
+                    throw reject();
+                }
+            }
+        }
+    }
+
+    private CircuitOpenException reject() {
+        rejectedCounter.increment();
+        return new CircuitOpenException("Circuit " + name + " is open");
+    }
+
+    private void record(Phase acquired, boolean failure, boolean slow) {
+        if (slow) {
+            slowCounter.increment();
+        }
+
+        if (phase.get() != acquired) {
+            // 상태가 바뀐 뒤 도착한 결과는 새 상태의 판단에 사용하지 않음
+            return;
+        }
+        acquired.window.record(failure, slow);
+
+        if (acquired.state == CircuitState.CLOSED) {
+            if ((failure || slow) && acquired.window.calls() >= settings.minimumCalls() && exceedsThreshold(acquired)) {
+                transition(acquired, CircuitState.OPEN);
+            }
+        } else if (acquired.window.calls() >= settings.halfOpenCalls()) {
+            transition(acquired, exceedsThreshold(acquired) ? CircuitState.OPEN : CircuitState.CLOSED);
+        }
+    }
+
+    private boolean exceedsThreshold(Phase current) {
+        return current.window.failureRate() >= settings.failureRateThreshold()
+                || current.window.slowCallRate() >= settings.slowCallRateThreshold();
+    }
+
+    private void transition(Phase from, CircuitState to) {
+        if (phase.compareAndSet(from, newPhase(to))) {
+            meterRegistry.counter("circuit.breaker.transitions", "name", name,
+                    "from", from.state.name(), "to", to.name()).increment();
+            if (to == CircuitState.CLOSED) {
+                log.info("Circuit {} changed from {} to {}", name, from.state, to);
+            } else {
+                log.warn("Circuit {} changed from {} to {}", name, from.state, to);
+            }
+        }
+    }
+
+    private Phase newPhase(CircuitState state) {
+        return switch (state) {
+            case CLOSED -> new Phase(state, nanoClock.getAsLong(), new OutcomeWindow(settings.windowSize()), 0);
+            case OPEN -> new Phase(state, nanoClock.getAsLong(), null, 0);
+            case HALF_OPEN -> new Phase(state, nanoClock.getAsLong(),
+                    new OutcomeWindow(settings.halfOpenCalls()), settings.halfOpenCalls());
+        };
+    }
+
+    private static final class Phase {
+        private final CircuitState state;
+
+        private final long enteredAtNanos;
+
+        private final OutcomeWindow window;
+
+        private final AtomicInteger permits;
+
+        private Phase(CircuitState state, long enteredAtNanos, OutcomeWindow window, int permits) {
+            this.state = state;
+            this.enteredAtNanos = enteredAtNanos;
+            this.window = window;
+            this.permits = new AtomicInteger(permits);
+        }
+    }
+}
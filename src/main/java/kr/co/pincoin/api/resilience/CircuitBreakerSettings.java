@@ -0,0 +1,26 @@
+package kr.co.pincoin.api.resilience;
+
+import lombok.Builder;
+
+import java.time.Duration;
+
+/**
+ * 서킷 브레이커 설정
+ *
+ * @param windowSize            최근 몇 건의 호출 결과로 실패율을 계산할지
+ * @param minimumCalls          실패율을 판단하기 위한 최소 호출 수
+ * @param failureRateThreshold  OPEN으로 전환하는 실패율 (%)
+ * @param slowCallRateThreshold OPEN으로 전환하는 느린 호출 비율 (%)
+ * @param slowCallDuration      이 시간 이상 걸린 호출은 느린 호출로 집계
+ * @param openDuration          OPEN 상태를 유지한 뒤 HALF_OPEN으로 전환하기까지의 시간
+ * @param halfOpenCalls         HALF_OPEN 상태에서 허용하는 시험 호출 수
+ */
+@Builder
+public record CircuitBreakerSettings(int windowSize,
+                                     int minimumCalls,
+                                     double failureRateThreshold,
+                                     double slowCallRateThreshold,
+                                     Duration slowCallDuration,
+                                     Duration openDuration,
+                                     int halfOpenCalls) {
+}
@@ -0,0 +1,121 @@
+package kr.co.pincoin.api.resilience;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 주문 엔드포인트 앞에서 적응형 동시 처리 한도를 적용하는 필터
+ * <p>
+ * - 한도를 넘는 요청은 컨트롤러에 도달하기 전에 503과 Retry-After로 즉시 거부
+ * - 비동기 응답은 응답이 완료된 시점에 허가를 반납하고 요청 전체 지연시간을 표본으로 사용
+ * - 2xx 응답만 지연시간 표본으로 반영하고, 429(벌크헤드 포화), 504(마감 시각 초과)와 비동기 제한 시간 초과는 drop으로 반영
+ * - 그 밖의 오류 응답은 지연시간이 부하를 반영하지 않으므로 표본 없이 반납
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+    private final ConcurrencyLimiter concurrencyLimiter;
+
+    private final long retryAfterSeconds;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!concurrencyLimiter.tryAcquire()) {
+            reject(response);
+            return;
+        }
+
+        Permit permit = new Permit(response, System.nanoTime());
+        try {
+            filterChain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            permit.ignore();
+            throw e;
+        }
+
+        if (request.isAsyncStarted()) {
+            request.getAsyncContext().addListener(permit);
+        } else {
+            permit.release(false);
+        }
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        log.warn("Concurrency limit {} reached ({}), rejecting request",
+                concurrencyLimiter.getName(), concurrencyLimiter.getLimit());
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write("Order processing failed (CONCURRENCY_LIMITED): Too many orders in flight");
+    }
+
+    /**
+     * 요청 하나가 보유한 허가
+     * 비동기 완료 이벤트가 여러 번 전달되어도 한 번만 반납
+     */
+    @RequiredArgsConstructor
+    private class Permit implements AsyncListener {
+        private final HttpServletResponse response;
+
+        private final long startNanos;
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        void release(boolean timedOut) {
+            if (!released.compareAndSet(false, true)) {
+                return;
+            }
+            int status = response.getStatus();
+            if (timedOut
+                    || status == HttpStatus.TOO_MANY_REQUESTS.value()
+                    || status == HttpStatus.GATEWAY_TIMEOUT.value()) {
+                concurrencyLimiter.onDropped();
+            } else if (status >= 200 && status < 300) {
+                concurrencyLimiter.onSuccess(System.nanoTime() - startNanos);
+            } else {
+                concurrencyLimiter.onIgnored();
+            }
+        }
+
+        void ignore() {
+            if (released.compareAndSet(false, true)) {
+                concurrencyLimiter.onIgnored();
+            }
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release(false);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release(true);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            ignore();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package kr.co.pincoin.api.resilience;
+
+import lombok.Builder;
+
+/**
+ * 적응형 동시 처리 한도 설정
+ *
+ * @param initialLimit  시작 한도
+ * @param minLimit      한도 하한
+ * @param maxLimit      한도 상한
+ * @param smoothing     새 한도를 반영하는 비율 (0 초과 1 이하, 1이면 즉시 반영)
+ * @param backoffRatio  요청이 제한 시간을 넘기거나 하위 자원이 포화된 경우 한도에 곱하는 비율
+ * @param probeInterval 무부하 지연시간을 현재 표본으로 다시 측정하기까지의 표본 수
+ */
+@Builder
+public record ConcurrencyLimitSettings(int initialLimit,
+                                       int minLimit,
+                                       int maxLimit,
+                                       double smoothing,
+                                       double backoffRatio,
+                                       int probeInterval) {
+}
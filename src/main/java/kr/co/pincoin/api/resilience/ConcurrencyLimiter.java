@@ -0,0 +1,200 @@
+package kr.co.pincoin.api.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 관측한 지연시간으로 동시 처리 한도를 조정하는 적응형 동시성 제한기 (TCP Vegas 방식)
+ * <p>
+ * [한도 조정]
+ * - 무부하 지연시간(noLoadRtt)은 관측한 최소 지연시간이며, probeInterval개 표본마다 한도를 잠시 절반으로 낮춰 다시 측정
+ * - 대기열 추정치 queue = limit × (1 - noLoadRtt / rtt)
+ * - alpha = 3·log10(limit), beta = 6·log10(limit)
+ * - queue ≤ log10(limit): beta만큼 증가 (여유가 충분함)
+ * - queue < alpha: log10(limit)만큼 증가
+ * - queue > beta: log10(limit)만큼 감소 (하위 자원에서 대기가 쌓이는 중)
+ * - 제한 시간 초과나 하위 자원 포화(drop): backoffRatio를 곱해 감소
+ * - 처리 중인 요청이 한도의 절반 미만이면 부하가 한도를 결정하지 않으므로 조정하지 않음
+ * <p>
+ * [사용]
+ * - tryAcquire가 false를 반환하면 요청을 즉시 거부
+ * - 허용된 요청은 결과에 따라 onSuccess, onDropped, onIgnored 중 하나를 반드시 한 번 호출
+ * - 지표: concurrency.limit, concurrency.limit.inflight, concurrency.limit.dropped (name 태그)
+ */
+@Slf4j
+public class ConcurrencyLimiter {
+    private final String name;
+
+    private final ConcurrencyLimitSettings settings;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final ReentrantLock updateLock = new ReentrantLock();
+
+    private final Counter droppedCounter;
+
+    private volatile int limit;
+
+    // updateLock으로 보호
+    private double estimatedLimit;
+
+    private long noLoadRttNanos;
+
+    private int samplesSinceProbe;
+
+    private int probeSamplesRemaining;
+
+    private double limitBeforeProbe;
+
+    public ConcurrencyLimiter(String name, ConcurrencyLimitSettings settings, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.settings = settings;
+        this.estimatedLimit = settings.initialLimit();
+        this.limit = settings.initialLimit();
+
+        this.droppedCounter = Counter.builder("concurrency.limit.dropped")
+                .description("Requests rejected because the concurrency limit was reached")
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("concurrency.limit", this, ConcurrencyLimiter::getLimit)
+                .description("Current adaptive concurrency limit")
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("concurrency.limit.inflight", this, ConcurrencyLimiter::getInFlight)
+                .description("Requests currently holding a concurrency permit")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * 한도 안이면 처리 중인 요청 수를 늘리고 true 반환, 한도에 도달했으면 false 반환
+     */
+    public boolean tryAcquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= limit) {
+                droppedCounter.increment();
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    /**
+     * 정상 처리된 요청의 지연시간을 표본으로 반영
+     */
+    public void onSuccess(long rttNanos) {
+        int sampledInFlight = inFlight.getAndDecrement();
+        if (rttNanos > 0) {
+            update(rttNanos, sampledInFlight, false);
+        }
+    }
+
+    /**
+     * 제한 시간 초과나 하위 자원 포화로 실패한 요청을 반영하여 한도를 줄임
+     */
+    public void onDropped() {
+        int sampledInFlight = inFlight.getAndDecrement();
+        update(0L, sampledInFlight, true);
+    }
+
+    /**
+     * 지연시간이 부하를 반영하지 않는 요청(입력 오류, 빠른 실패 등)은 표본 없이 반납
+     */
+    public void onIgnored() {
+        inFlight.decrementAndGet();
+    }
+
+    private void update(long rttNanos, int sampledInFlight, boolean dropped) {
+        updateLock.lock();
+        try {
+            if (dropped) {
+                if (probeSamplesRemaining > 0) {
+                    limitBeforeProbe = clamp(limitBeforeProbe * settings.backoffRatio());
+                } else {
+                    applyLimit(estimatedLimit * settings.backoffRatio());
+                }
+                return;
+            }
+
+            if (probeSamplesRemaining > 0) {
+                // 한도를 낮춘 동안 대기열이 빠지면서 관측되는 최소 지연시간을 무부하 지연시간으로 사용
+                noLoadRttNanos = Math.min(noLoadRttNanos, rttNanos);
+                if (--probeSamplesRemaining == 0) {
+                    applyLimit(limitBeforeProbe);
+                }
+                return;
+            }
+            if (noLoadRttNanos == 0 || rttNanos < noLoadRttNanos) {
+                noLoadRttNanos = rttNanos;
+                return;
+            }
+            if (++samplesSinceProbe >= settings.probeInterval()) {
+                startProbe(rttNanos);
+                return;
+            }
+            if (sampledInFlight * 2 < estimatedLimit) {
+                return;
+            }
+
+            double current = estimatedLimit;
+            double step = Math.max(1.0, Math.log10(current));
+            double queue = Math.ceil(current * (1 - (double) noLoadRttNanos / rttNanos));
+            if (queue <= step) {
+                applyLimit(current + 6 * step);
+            } else if (queue < 3 * step) {
+                applyLimit(current + step);
+            } else if (queue > 6 * step) {
+                applyLimit(current - step);
+            }
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    /**
+     * 무부하 지연시간 재측정 시작
+     * 포화 상태의 표본에는 대기 시간이 포함되어 있으므로, 한도를 절반으로 낮추고
+     * 기존 한도만큼의 표본을 받는 동안의 최소 지연시간을 새 무부하 지연시간으로 사용한 뒤 한도를 복원
+     * 하위 서비스의 지연시간이 바뀐 경우 이 과정을 통해 기준이 따라감
+     */
+    private void startProbe(long rttNanos) {
+        samplesSinceProbe = 0;
+        noLoadRttNanos = rttNanos;
+        limitBeforeProbe = estimatedLimit;
+        probeSamplesRemaining = Math.max(1, (int) estimatedLimit);
+        limit = (int) clamp(estimatedLimit / 2);
+        log.debug("Concurrency limit {} probing no-load latency at limit {}", name, limit);
+    }
+
+    private void applyLimit(double newLimit) {
+        estimatedLimit = (1 - settings.smoothing()) * estimatedLimit + settings.smoothing() * clamp(newLimit);
+        int previous = limit;
+        limit = (int) estimatedLimit;
+        if (previous != limit) {
+            log.debug("Concurrency limit {} changed from {} to {}", name, previous, limit);
+        }
+    }
+
+    private double clamp(double value) {
+        return Math.clamp(value, settings.minLimit(), settings.maxLimit());
+    }
+}
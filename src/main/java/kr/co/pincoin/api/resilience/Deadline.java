@@ -0,0 +1,120 @@
+package kr.co.pincoin.api.resilience;
+
+import kr.co.pincoin.api.exception.DeadlineExceededException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 요청 하나에 주어진 처리 마감 시각
+ * <p>
+ * - 요청을 받은 시점에 정해지며 사가의 각 단계, 외부 API 호출, 결제 트랜잭션까지 전달됨
+ * - 각 단계는 남은 시간을 확인하여 이미 지났으면 시작하지 않고 DeadlineExceededException으로 실패
+ * - 단조 시계(System.nanoTime) 기준이므로 프로세스 밖으로 전달하거나 저장하지 않음
+ * (재시작 후 복구되는 사가는 마감 시각 없이 실행)
+ */
+public final class Deadline {
+    private static final Deadline NONE = new Deadline(Long.MAX_VALUE);
+
+    private final long deadlineNanos;
+
+    private Deadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    public static Deadline after(Duration timeout) {
+        return new Deadline(System.nanoTime() + timeout.toNanos());
+    }
+
+    /**
+     * 마감 시각이 없는 요청 (복구 중인 사가 등)
+     */
+    public static Deadline none() {
+        return NONE;
+    }
+
+    public boolean isBounded() {
+        return this != NONE;
+    }
+
+    public long remainingNanos() {
+        return isBounded() ? deadlineNanos - System.nanoTime() : Long.MAX_VALUE;
+    }
+
+    public boolean isExpired() {
+        return remainingNanos() <= 0;
+    }
+
+    /**
+     * 남은 시간이 없으면 예외
+     *
+     * @param stage 예외 메시지에 사용할 처리 단계 이름
+     * @throws DeadlineExceededException 마감 시각이 지난 경우
+     */
+    public void check(String stage) {
+        if (isExpired()) {
+            throw new DeadlineExceededException("Deadline exceeded before " + stage);
+        }
+    }
+
+    /**
+     * 마감 시각까지 완료되지 않으면 작업을 취소(작업 스레드 인터럽트)하고 DeadlineExceededException으로 실패하는 Future 반환
+     * 취소가 작업 스레드까지 전달되려면 future는 의존 단계가 아닌 작업 자체의 Future여야 함
+     *
+     * @param future 제한할 작업
+     * @param stage  예외 메시지에 사용할 처리 단계 이름
+     */
+    public <T> CompletableFuture<T> bound(CompletableFuture<T> future, String stage) {
+        if (!isBounded()) {
+            return future;
+        }
+        long remaining = remainingNanos();
+        if (remaining <= 0) {
+            future.cancel(true);
+            return CompletableFuture.failedFuture(new DeadlineExceededException("Deadline exceeded before " + stage));
+        }
+
+        CompletableFuture<T> bounded = new CompletableFuture<>();
+        future.whenComplete((value, error) -> {
+            if (error == null) {
+                bounded.complete(value);
+            } else {
+                bounded.completeExceptionally(error);
+            }
+        });
+        return bounded.orTimeout(remaining, TimeUnit.NANOSECONDS)
+                .exceptionallyCompose(error -> {
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause()
+                            : error;
+                    if (cause instanceof TimeoutException) {
+                        // 더 이상 결과를 기다리지 않으므로 작업 스레드를 인터럽트하여 남은 작업(로그 기록 등)을 중단
+                        future.cancel(true);
+                        return CompletableFuture.failedFuture(
+                                new DeadlineExceededException("Deadline exceeded during " + stage));
+                    }
+                    return CompletableFuture.failedFuture(cause);
+                });
+    }
+
+    /**
+     * 남은 시간을 트랜잭션 제한 시간으로 사용하는 TransactionTemplate 반환
+     * 트랜잭션 안의 JPA 쿼리에는 남은 트랜잭션 시간이 쿼리 제한 시간으로 적용됨
+     *
+     * @throws DeadlineExceededException 마감 시각이 이미 지난 경우
+     */
+    public TransactionTemplate bound(TransactionTemplate transactionTemplate, String stage) {
+        if (!isBounded()) {
+            return transactionTemplate;
+        }
+        check(stage);
+        TransactionTemplate bounded = new TransactionTemplate(transactionTemplate.getTransactionManager(),
+                transactionTemplate);
+        bounded.setTimeout((int) Math.max(1, TimeUnit.NANOSECONDS.toSeconds(remainingNanos() + 999_999_999L)));
+        return bounded;
+    }
+}
@@ -0,0 +1,25 @@
+package kr.co.pincoin.api.resilience;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * CompletableFuture 체인에서 받은 예외를 다루는 공통 함수
+ */
+public final class Futures {
+    private Futures() {
+    }
+
+    /**
+     * CompletableFuture가 감싼 CompletionException, ExecutionException을 벗겨 실제 원인을 반환
+     *
+     * @param e Future의 완료 예외 또는 join/get이 던진 예외
+     * @return 감싸지 않은 원인 (원인이 없으면 e 그대로)
+     */
+    public static Throwable unwrap(Throwable e) {
+        while ((e instanceof CompletionException || e instanceof ExecutionException) && e.getCause() != null) {
+            e = e.getCause();
+        }
+        return e;
+    }
+}
@@ -0,0 +1,24 @@
+package kr.co.pincoin.api.resilience;
+
+import lombok.Builder;
+
+import java.time.Duration;
+
+/**
+ * 헤지 요청 설정
+ *
+ * @param enabled     헤지 요청 사용 여부 (사용하지 않아도 지연시간은 수집)
+ * @param percentile  최근 지연시간의 이 백분위수만큼 기다려도 응답이 없으면 헤지 요청 (0 초과 1 미만)
+ * @param minDelay    헤지 요청 전 최소 대기 시간
+ * @param budgetRatio 일반 호출 대비 허용하는 헤지 요청 비율 (0.05이면 최대 5% 추가 부하)
+ * @param windowSize  백분위수를 계산할 최근 지연시간 표본 수
+ * @param minSamples  헤지를 시작하기 위해 필요한 최소 표본 수
+ */
+@Builder
+public record HedgeSettings(boolean enabled,
+                            double percentile,
+                            Duration minDelay,
+                            double budgetRatio,
+                            int windowSize,
+                            int minSamples) {
+}
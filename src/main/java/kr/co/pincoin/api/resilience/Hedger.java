@@ -0,0 +1,302 @@
+package kr.co.pincoin.api.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 응답이 늦은 호출에 같은 요청을 한 번 더 보내 먼저 도착한 응답을 사용하는 헤지 요청 실행기
+ * <p>
+ * [동작]
+ * - 첫 호출이 최근 지연시간의 percentile 백분위수(최소 minDelay)만큼 지나도 끝나지 않으면 헤지 호출을 한 번 추가
+ * - 먼저 성공한 응답을 결과로 사용하고, 나중에 성공한 응답은 loserCanceller로 취소
+ * - 한쪽이 실패하면 다른 쪽의 결과를 기다리고, 시작한 호출이 모두 실패한 경우에만 실패
+ * - 두 호출 모두 같은 벌크헤드에서 실행되므로 헤지 호출도 동시 실행 한도에 포함됨
+ * - 반환한 Future를 취소하면 헤지 예약과 진행 중인 호출을 모두 취소 (벌크헤드 스레드 인터럽트)
+ * <p>
+ * [예산]
+ * - 일반 호출마다 budgetRatio만큼 토큰을 적립하고 헤지 호출마다 1개를 사용 (최대 BUDGET_BURST개까지 적립)
+ * - 하위 서비스 전체가 느려진 경우에도 헤지로 인한 추가 부하가 budgetRatio를 넘지 않음
+ * <p>
+ * [지표] (name 태그)
+ * - hedge.calls: 일반 호출 수 / hedge.attempts: 헤지 호출 수 / hedge.wins: 헤지 호출이 먼저 성공한 수
+ * - hedge.budget.exhausted: 예산이 없어 헤지하지 못한 수
+ * - hedge.latency: attempt=primary(첫 호출 자체의 지연시간), attempt=effective(호출자가 받은 지연시간)
+ * 두 타이머의 p99 차이가 헤지로 줄어든 꼬리 지연시간
+ * - hedge.delay: 현재 헤지 대기 시간 (ms)
+ */
+@Slf4j
+public class Hedger {
+    private static final long TOKEN = 1_000L;
+
+    private static final long BUDGET_BURST = 10 * TOKEN;
+
+    private final String name;
+
+    private final HedgeSettings settings;
+
+    private final Bulkhead bulkhead;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final AtomicLongArray latencies;
+
+    private final AtomicLong samples = new AtomicLong();
+
+    private final AtomicLong budget = new AtomicLong();
+
+    private final long depositPerCall;
+
+    private final int recomputeInterval;
+
+    private volatile long hedgeDelayNanos = -1L;
+
+    private final Counter callsCounter;
+
+    private final Counter attemptsCounter;
+
+    private final Counter winsCounter;
+
+    private final Counter budgetExhaustedCounter;
+
+    private final Timer primaryLatencyTimer;
+
+    private final Timer effectiveLatencyTimer;
+
+    public Hedger(String name, HedgeSettings settings, Bulkhead bulkhead, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.settings = settings;
+        this.bulkhead = bulkhead;
+        this.latencies = new AtomicLongArray(settings.windowSize());
+        this.depositPerCall = Math.round(settings.budgetRatio() * TOKEN);
+        this.recomputeInterval = Math.max(1, settings.windowSize() / 10);
+
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1,
+                Thread.ofPlatform().name("Hedge-" + name).daemon().factory());
+        // 첫 호출이 먼저 끝나 취소된 헤지 예약은 바로 제거
+        executor.setRemoveOnCancelPolicy(true);
+        this.scheduler = executor;
+
+        this.callsCounter = meterRegistry.counter("hedge.calls", "name", name);
+        this.attemptsCounter = meterRegistry.counter("hedge.attempts", "name", name);
+        this.winsCounter = meterRegistry.counter("hedge.wins", "name", name);
+        this.budgetExhaustedCounter = meterRegistry.counter("hedge.budget.exhausted", "name", name);
+        this.primaryLatencyTimer = latencyTimer("primary", meterRegistry);
+        this.effectiveLatencyTimer = latencyTimer("effective", meterRegistry);
+        Gauge.builder("hedge.delay", this, hedger -> hedger.hedgeDelayNanos / 1_000_000.0)
+                .description("Current hedge delay in milliseconds, negative until enough samples are collected")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    private Timer latencyTimer(String attempt, MeterRegistry meterRegistry) {
+        return Timer.builder("hedge.latency")
+                .description("Latency of the first attempt and of the hedged call as seen by the caller")
+                .tag("name", name)
+                .tag("attempt", attempt)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 벌크헤드에서 호출을 실행하고, 응답이 늦으면 헤지 호출 추가
+     *
+     * @param call           멱등한 호출 (두 번 실행될 수 있음)
+     * @param loserCanceller 먼저 성공한 응답이 있거나 호출자가 취소한 뒤 성공한 응답을 취소하는 작업
+     *                       (응답을 받은 벌크헤드 스레드에서 실행되므로 취소 요청을 기록만 하는 짧은 작업이어야 함)
+     * @return 먼저 성공한 응답, 시작한 호출이 모두 실패하면 마지막 예외로 완료
+     */
+    public <T> CompletableFuture<T> execute(Supplier<T> call, Consumer<T> loserCanceller) {
+        callsCounter.increment();
+        budget.updateAndGet(tokens -> Math.min(BUDGET_BURST, tokens + depositPerCall));
+
+        HedgedCall<T> hedgedCall = new HedgedCall<>(call, loserCanceller);
+        hedgedCall.startPrimary();
+
+        long delay = hedgeDelayNanos;
+        if (settings.enabled() && delay >= 0 && !hedgedCall.result.isDone()) {
+            hedgedCall.scheduleHedge(delay);
+        }
+        return hedgedCall.result;
+    }
+
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private boolean tryAcquireBudget() {
+        long tokens;
+        do {
+            tokens = budget.get();
+            if (tokens < TOKEN) {
+                return false;
+            }
+        } while (!budget.compareAndSet(tokens, tokens - TOKEN));
+        return true;
+    }
+
+    private void recordPrimaryLatency(long latencyNanos) {
+        primaryLatencyTimer.record(latencyNanos, TimeUnit.NANOSECONDS);
+        long sample = samples.getAndIncrement();
+        latencies.set((int) (sample % latencies.length()), latencyNanos);
+        if (sample + 1 >= settings.minSamples() && (sample + 1) % recomputeInterval == 0) {
+            recomputeHedgeDelay(Math.min(sample + 1, latencies.length()));
+        }
+    }
+
+    private void recomputeHedgeDelay(long count) {
+        long[] snapshot = new long[(int) count];
+        for (int i = 0; i < snapshot.length; i++) {
+            snapshot[i] = latencies.get(i);
+        }
+        Arrays.sort(snapshot);
+        long percentileNanos = snapshot[(int) Math.min(snapshot.length - 1, Math.floor(settings.percentile() * snapshot.length))];
+        hedgeDelayNanos = Math.max(settings.minDelay().toNanos(), percentileNanos);
+    }
+
+    /**
+     * 첫 호출과 헤지 호출 중 먼저 성공한 응답으로 완료되는 호출 하나
+     * pending은 아직 결과가 정해지지 않은 호출 수이며, 예약된 헤지도 실행 또는 취소될 때까지 하나로 셈
+     */
+    private class HedgedCall<T> {
+        private final Supplier<T> call;
+
+        private final Consumer<T> loserCanceller;
+
+        private final long startNanos = System.nanoTime();
+
+        private final AtomicInteger pending = new AtomicInteger();
+
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        private final Queue<CompletableFuture<T>> attempts = new ConcurrentLinkedQueue<>();
+
+        private volatile ScheduledFuture<?> timer;
+
+        private final AtomicBoolean won = new AtomicBoolean();
+
+        private volatile Throwable lastError;
+
+        HedgedCall(Supplier<T> call, Consumer<T> loserCanceller) {
+            this.call = call;
+            this.loserCanceller = loserCanceller;
+            result.whenComplete((value, error) -> {
+                if (result.isCancelled()) {
+                    cancelAttempts();
+                }
+            });
+        }
+
+        void startPrimary() {
+            pending.incrementAndGet();
+            submit(false);
+        }
+
+        void scheduleHedge(long delayNanos) {
+            pending.incrementAndGet();
+            timer = scheduler.schedule(this::hedge, delayNanos, TimeUnit.NANOSECONDS);
+        }
+
+        private void hedge() {
+            // 첫 호출이 예약 직전에 실패하여 타이머를 취소하지 못한 경우에도 헤지하지 않음 (재시도는 헤지의 역할이 아님)
+            if (result.isDone() || lastError != null) {
+                release();
+                return;
+            }
+            if (!tryAcquireBudget()) {
+                budgetExhaustedCounter.increment();
+                release();
+                return;
+            }
+            attemptsCounter.increment();
+            log.debug("Hedging {} call after {}ms", name, (System.nanoTime() - startNanos) / 1_000_000);
+            submit(true);
+        }
+
+        private void submit(boolean hedge) {
+            long attemptStartNanos = System.nanoTime();
+            CompletableFuture<T> attempt = bulkhead.supplyAsync(call);
+            attempts.add(attempt);
+            if (result.isCancelled()) {
+                // 제출하는 동안 호출자가 취소한 경우
+                attempt.cancel(true);
+            }
+            attempt.whenComplete((value, error) -> {
+                if (!hedge && error == null) {
+                    recordPrimaryLatency(System.nanoTime() - attemptStartNanos);
+                }
+                if (error == null) {
+                    succeed(hedge, value);
+                } else {
+                    lastError = error;
+                    // 첫 호출이 실패하면 헤지 예약은 취소 (재시도는 헤지의 역할이 아님)
+                    cancelTimer();
+                    release();
+                }
+            });
+        }
+
+        private void succeed(boolean hedge, T value) {
+            if (!won.compareAndSet(false, true)) {
+                cancelLoser(value);
+                return;
+            }
+            // 호출자가 결과를 받기 전에 지표를 먼저 기록
+            effectiveLatencyTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            if (hedge) {
+                winsCounter.increment();
+            }
+            cancelTimer();
+            if (!result.complete(value)) {
+                // 호출자가 이미 취소하여 사용되지 않는 응답
+                cancelLoser(value);
+            }
+        }
+
+        private void cancelAttempts() {
+            cancelTimer();
+            for (CompletableFuture<T> attempt : attempts) {
+                attempt.cancel(true);
+            }
+        }
+
+        private void cancelTimer() {
+            ScheduledFuture<?> scheduled = timer;
+            if (scheduled != null && scheduled.cancel(false)) {
+                release();
+            }
+        }
+
+        private void release() {
+            Throwable error = lastError;
+            if (pending.decrementAndGet() == 0 && error != null) {
+                result.completeExceptionally(error);
+            }
+        }
+
+        private void cancelLoser(T value) {
+            try {
+                loserCanceller.accept(value);
+            } catch (RuntimeException e) {
+                log.error("Failed to cancel losing {} call", name, e);
+            }
+        }
+    }
+}
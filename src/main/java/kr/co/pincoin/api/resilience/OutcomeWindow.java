@@ -0,0 +1,66 @@
+package kr.co.pincoin.api.resilience;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 최근 호출 결과를 보관하는 고정 크기 링 버퍼
+ * <p>
+ * 슬롯 교체(getAndSet)로 밀려난 결과만큼 집계를 되돌리므로 잠금 없이 집계가 슬롯 내용과 일치
+ */
+class OutcomeWindow {
+    private static final int EMPTY = 0;
+
+    private static final int SUCCESS = 1;
+
+    private static final int FAILURE = 1 << 1;
+
+    private static final int SLOW = 1 << 2;
+
+    private final AtomicIntegerArray slots;
+
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private final AtomicInteger failures = new AtomicInteger();
+
+    private final AtomicInteger slowCalls = new AtomicInteger();
+
+    OutcomeWindow(int size) {
+        this.slots = new AtomicIntegerArray(size);
+    }
+
+    void record(boolean failure, boolean slow) {
+        int outcome = (failure ? FAILURE : SUCCESS) | (slow ? SLOW : EMPTY);
+        int index = Math.floorMod(cursor.getAndIncrement(), slots.length());
+        int evicted = slots.getAndSet(index, outcome);
+
+        if (evicted == EMPTY) {
+            calls.incrementAndGet();
+        }
+        adjust(failures, evicted, outcome, FAILURE);
+        adjust(slowCalls, evicted, outcome, SLOW);
+    }
+
+    int calls() {
+        return calls.get();
+    }
+
+    double failureRate() {
+        int total = calls.get();
+        return total == 0 ? 0 : failures.get() * 100.0 / total;
+    }
+
+    double slowCallRate() {
+        int total = calls.get();
+        return total == 0 ? 0 : slowCalls.get() * 100.0 / total;
+    }
+
+    private static void adjust(AtomicInteger counter, int evicted, int outcome, int flag) {
+        int delta = ((outcome & flag) != 0 ? 1 : 0) - ((evicted & flag) != 0 ? 1 : 0);
+        if (delta != 0) {
+            counter.addAndGet(delta);
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package kr.co.pincoin.api.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 실패한 비동기 호출을 예외별 정책에 따라 다시 시도하는 실행기
+ * <p>
+ * [동작]
+ * - 실패 예외(CompletionException은 벗겨서 판단)에 처음 일치하는 정책의 maxAttempts까지 시도하고, 일치하는 정책이 없으면 바로 실패
+ * - 대기 시간은 decorrelated jitter: min(maxDelay, random(baseDelay, 직전 대기 시간 × 3))
+ * - 대기는 타이머 스레드에 예약하므로 재시도를 기다리는 동안 스레드를 점유하지 않음
+ * - 마감 시각까지 남은 시간이 대기 시간보다 짧으면 재시도하지 않고 마지막 예외로 실패
+ * - 반환한 Future를 취소하면 예약된 재시도와 진행 중인 시도를 모두 취소
+ * <p>
+ * [예산]
+ * - 호출마다 budgetRatio만큼 토큰을 적립하고 재시도마다 1개를 사용 (budgetBurst개로 시작하며 그 이상은 적립하지 않음)
+ * - 하위 서비스 장애로 대부분의 호출이 실패해도 재시도로 인한 추가 부하가 budgetRatio를 넘지 않음
+ * <p>
+ * [지표] (name 태그)
+ * - retry.calls: 호출 수 / retry.retries: 재시도 수
+ * - retry.suppressed: 재시도할 수 있었지만 하지 않은 수 (reason=budget|deadline)
+ * - retry.attempts: 호출 하나가 사용한 시도 횟수 분포
+ */
+@Slf4j
+public class Retrier {
+    private static final long TOKEN = 1_000L;
+
+    private final String name;
+
+    private final RetrySettings settings;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final AtomicLong budget = new AtomicLong();
+
+    private final long depositPerCall;
+
+    private final long maxBudget;
+
+    private final Counter callsCounter;
+
+    private final Counter retriesCounter;
+
+    private final Counter budgetSuppressedCounter;
+
+    private final Counter deadlineSuppressedCounter;
+
+    private final DistributionSummary attemptsSummary;
+
+    public Retrier(String name, RetrySettings settings, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.settings = settings;
+        this.depositPerCall = Math.round(settings.budgetRatio() * TOKEN);
+        this.maxBudget = settings.budgetBurst() * TOKEN;
+        // 기동 직후의 일시적인 실패도 재시도할 수 있도록 가득 찬 상태로 시작
+        this.budget.set(maxBudget);
+
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1,
+                Thread.ofPlatform().name("Retry-" + name).daemon().factory());
+        // 호출자가 취소한 재시도 예약은 바로 제거
+        executor.setRemoveOnCancelPolicy(true);
+        this.scheduler = executor;
+
+        this.callsCounter = meterRegistry.counter("retry.calls", "name", name);
+        this.retriesCounter = meterRegistry.counter("retry.retries", "name", name);
+        this.budgetSuppressedCounter = meterRegistry.counter("retry.suppressed", "name", name, "reason", "budget");
+        this.deadlineSuppressedCounter = meterRegistry.counter("retry.suppressed", "name", name, "reason", "deadline");
+        this.attemptsSummary = DistributionSummary.builder("retry.attempts")
+                .description("Attempts used by a single call including the first one")
+                .tag("name", name)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 호출을 실행하고 실패하면 정책에 따라 재시도
+     * <p>
+     * 외부 API 승인(ExternalAPIClient.processAsync)도 재시도하지만 멱등 키 없이 안전함
+     * - ExternalAPIException은 승인되지 않은 것이 확실한 실패에만 쓰이므로 재시도가 승인을 중복으로 만들지 않음
+     * - 승인이 중복되는 경우는 헤지 요청뿐이며, 채택되지 않은 승인은 referenceId로 취소 요청을 outbox에 기록
+     * - 취소(cancelAsync)는 이미 취소된 승인에 다시 호출해도 결과가 같음
+     *
+     * @param attempt  시도 하나를 시작하는 함수 (여러 번 호출될 수 있으므로 멱등하거나 실패가 부작용 없음을 보장해야 함)
+     * @param deadline 재시도를 포함한 전체 처리 마감 시각
+     * @return 성공한 시도의 결과, 재시도하지 않기로 한 시점의 마지막 예외로 실패
+     */
+    public <T> CompletableFuture<T> execute(Supplier<CompletableFuture<T>> attempt, Deadline deadline) {
+        callsCounter.increment();
+        budget.updateAndGet(tokens -> Math.min(maxBudget, tokens + depositPerCall));
+
+        RetryingCall<T> call = new RetryingCall<>(attempt, deadline);
+        call.run();
+        return call.result;
+    }
+
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private boolean tryAcquireBudget() {
+        long tokens;
+        do {
+            tokens = budget.get();
+            if (tokens < TOKEN) {
+                return false;
+            }
+        } while (!budget.compareAndSet(tokens, tokens - TOKEN));
+        return true;
+    }
+
+    private RetryPolicy policyFor(Throwable error) {
+        for (RetryPolicy policy : settings.policies()) {
+            if (policy.matches(error)) {
+                return policy;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 재시도를 포함한 호출 하나
+     */
+    private class RetryingCall<T> {
+        private final Supplier<CompletableFuture<T>> attempt;
+
+        private final Deadline deadline;
+
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        private volatile CompletableFuture<T> current;
+
+        private volatile ScheduledFuture<?> timer;
+
+        private int attempts;
+
+        private long previousDelayNanos;
+
+        RetryingCall(Supplier<CompletableFuture<T>> attempt, Deadline deadline) {
+            this.attempt = attempt;
+            this.deadline = deadline;
+            result.whenComplete((value, error) -> {
+                if (result.isCancelled()) {
+                    cancel();
+                }
+            });
+        }
+
+        /**
+         * 시도 하나를 시작 (이전 시도가 끝난 뒤에만 호출되므로 attempts는 동시에 변경되지 않음)
+         */
+        void run() {
+            if (result.isDone()) {
+                return;
+            }
+            attempts++;
+            CompletableFuture<T> future;
+            try {
+                future = attempt.get();
+            } catch (RuntimeException e) {
+                future = CompletableFuture.failedFuture(e);
+            }
+            current = future;
+            if (result.isCancelled()) {
+                // 시도를 시작하는 동안 호출자가 취소한 경우
+                future.cancel(true);
+            }
+            future.whenComplete((value, error) -> {
+                if (error == null) {
+                    attemptsSummary.record(attempts);
+                    result.complete(value);
+                } else {
+                    onFailure(Futures.unwrap(error));
+                }
+            });
+        }
+
+        private void onFailure(Throwable error) {
+            if (result.isDone()) {
+                return;
+            }
+            RetryPolicy policy = policyFor(error);
+            if (policy == null || attempts >= policy.maxAttempts()) {
+                fail(error);
+                return;
+            }
+
+            long delayNanos = nextDelayNanos(policy);
+            if (deadline.remainingNanos() <= delayNanos) {
+                deadlineSuppressedCounter.increment();
+                fail(error);
+                return;
+            }
+            if (!tryAcquireBudget()) {
+                budgetSuppressedCounter.increment();
+                fail(error);
+                return;
+            }
+
+            retriesCounter.increment();
+            log.debug("Retrying {} call in {}ms after attempt {} failed: {}",
+                    name, delayNanos / 1_000_000, attempts, error.toString());
+            timer = scheduler.schedule(this::run, delayNanos, TimeUnit.NANOSECONDS);
+            if (result.isCancelled()) {
+                timer.cancel(false);
+            }
+        }
+
+        /**
+         * decorrelated jitter: baseDelay와 직전 대기 시간의 3배 사이에서 무작위로 고르고 maxDelay로 제한
+         */
+        private long nextDelayNanos(RetryPolicy policy) {
+            long base = policy.baseDelay().toNanos();
+            long cap = policy.maxDelay().toNanos();
+            long upper = Math.max(base, previousDelayNanos * 3);
+            long delay = upper > base ? ThreadLocalRandom.current().nextLong(base, upper + 1) : base;
+            previousDelayNanos = Math.min(cap, delay);
+            return previousDelayNanos;
+        }
+
+        private void fail(Throwable error) {
+            attemptsSummary.record(attempts);
+            result.completeExceptionally(error);
+        }
+
+        private void cancel() {
+            ScheduledFuture<?> scheduled = timer;
+            if (scheduled != null) {
+                scheduled.cancel(false);
+            }
+            CompletableFuture<T> running = current;
+            if (running != null) {
+                running.cancel(true);
+            }
+        }
+    }
+}
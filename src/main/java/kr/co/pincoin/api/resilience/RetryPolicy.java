@@ -0,0 +1,33 @@
+package kr.co.pincoin.api.resilience;
+
+import java.time.Duration;
+
+/**
+ * 예외 타입 하나에 대한 재시도 정책
+ *
+ * @param exceptionType 정책을 적용할 예외 타입 (하위 타입 포함)
+ * @param maxAttempts   첫 시도를 포함한 최대 시도 횟수 (1이면 재시도하지 않음)
+ * @param baseDelay     재시도 대기 시간의 하한
+ * @param maxDelay      재시도 대기 시간의 상한
+ */
+public record RetryPolicy(Class<? extends Throwable> exceptionType,
+                          int maxAttempts,
+                          Duration baseDelay,
+                          Duration maxDelay) {
+
+    public static RetryPolicy retry(Class<? extends Throwable> exceptionType, int maxAttempts,
+                                    Duration baseDelay, Duration maxDelay) {
+        return new RetryPolicy(exceptionType, maxAttempts, baseDelay, maxDelay);
+    }
+
+    /**
+     * 재시도하지 않는 예외 (서킷 열림, 벌크헤드 포화 등 재시도가 부하만 늘리는 경우)
+     */
+    public static RetryPolicy never(Class<? extends Throwable> exceptionType) {
+        return new RetryPolicy(exceptionType, 1, Duration.ZERO, Duration.ZERO);
+    }
+
+    public boolean matches(Throwable error) {
+        return exceptionType.isInstance(error);
+    }
+}
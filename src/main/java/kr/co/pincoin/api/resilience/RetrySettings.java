@@ -0,0 +1,18 @@
+package kr.co.pincoin.api.resilience;
+
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * 재시도 설정
+ *
+ * @param policies    예외별 재시도 정책 (앞에서부터 처음 일치하는 정책을 사용, 일치하는 정책이 없으면 재시도하지 않음)
+ * @param budgetRatio 전체 호출 대비 허용하는 재시도 비율 (0.1이면 최대 10% 추가 부하)
+ * @param budgetBurst 적립해 둘 수 있는 최대 재시도 수
+ */
+@Builder
+public record RetrySettings(List<RetryPolicy> policies,
+                            double budgetRatio,
+                            int budgetBurst) {
+}
@@ -0,0 +1,29 @@
+package kr.co.pincoin.api.saga;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 사가 단계 목록과 복구 시 문맥을 역직렬화할 타입을 묶은 정의
+ * 이름은 saga_states.saga_type으로 저장되어 복구 시 정의를 찾는 키로 사용됨
+ */
+@Getter
+public class SagaDefinition<C> {
+    private final String name;
+
+    private final Class<C> contextType;
+
+    private final List<SagaStep<C>> steps;
+
+    private SagaDefinition(String name, Class<C> contextType, List<SagaStep<C>> steps) {
+        this.name = name;
+        this.contextType = contextType;
+        this.steps = steps;
+    }
+
+    @SafeVarargs
+    public static <C> SagaDefinition<C> of(String name, Class<C> contextType, SagaStep<C>... steps) {
+        return new SagaDefinition<>(name, contextType, List.of(steps));
+    }
+}
@@ -0,0 +1,260 @@
+package kr.co.pincoin.api.saga;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.co.pincoin.api.entity.SagaState;
+import kr.co.pincoin.api.enums.SagaStatus;
+import kr.co.pincoin.api.resilience.Deadline;
+import kr.co.pincoin.api.resilience.Futures;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * 단계/보상 기반의 범용 사가 실행 엔진
+ * <p>
+ * [실행 규칙]
+ * - 단계를 순서대로 실행하며, 각 단계 시작 전에 saga_states에 전이를 기록
+ * - critical 단계 실패 시: 이미 완료된 단계의 보상 동작을 역순으로 수행한 뒤 단계의 실패 예외를 전파
+ * - non-critical 단계 실패 시: 로그만 남기고 다음 단계 진행
+ * - 마감 시각이 지나면 남은 critical 단계는 시작하지 않고 DeadlineExceededException으로 실패하며,
+ * non-critical 단계는 건너뜀 (보상은 마감 시각과 관계없이 끝까지 수행)
+ * <p>
+ * [복구 규칙]
+ * - COMPENSATING 상태: 기록된 단계부터 역순으로 보상 재수행
+ * - RUNNING 상태:
+ * - 진행 중이던 단계가 completionCheck로 완료 확인되면 다음 단계부터 판단
+ * - 남은 단계가 모두 resumable(또는 non-critical)이면 이어서 실행
+ * - 그 외에는 진행 중이던 단계를 포함해 역순으로 보상 (결과를 알 수 없으므로 보상 동작은 멱등이어야 함)
+ * - 진행 중이던 단계가 완료 확인된 경우 다음 단계는 시작되지 않았으므로 완료 확인된 단계부터 보상
+ * <p>
+ * [지표]
+ * - 단계마다 실행 시간(saga.step)과 보상 시간(saga.compensation)을 사가/단계/결과 태그의 히스토그램으로 기록
+ * - 실행 시간은 사가 전이 기록 이후부터 단계의 Future가 완료될 때까지 (실행기 대기 시간 포함)
+ * - 문맥이 SagaTimingListener를 구현하면 같은 측정값을 요청 단위로도 전달
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SagaEngine {
+    private final SagaStateStore sagaStateStore;
+
+    private final ObjectMapper objectMapper;
+
+    private final Executor asyncExecutor;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, SagaDefinition<?>> definitions = new ConcurrentHashMap<>();
+
+    // 사가 이름별 단계 타이머 (단계 인덱스 순서)
+    private final Map<String, SagaStepTimers[]> stepTimers = new ConcurrentHashMap<>();
+
+    public void register(SagaDefinition<?> definition) {
+        definitions.put(definition.getName(), definition);
+        stepTimers.put(definition.getName(), definition.getSteps().stream()
+                .map(step -> new SagaStepTimers(definition.getName(), step.getName(), meterRegistry))
+                .toArray(SagaStepTimers[]::new));
+    }
+
+    /**
+     * 사가를 처음부터 실행
+     *
+     * @param definition 사가 정의
+     * @param sagaKey    사가 식별 키 (주문번호 등)
+     * @param context    단계 간에 공유되는 문맥
+     * @param deadline   요청의 처리 마감 시각
+     * @return 모든 단계 완료 시 문맥으로 완료, 실패 시 보상 후 실패 단계의 예외로 완료
+     */
+    public <C> CompletableFuture<C> execute(SagaDefinition<C> definition, String sagaKey, C context,
+                                            Deadline deadline) {
+        String firstStepName = definition.getSteps().getFirst().getName();
+        return CompletableFuture.supplyAsync(() -> sagaStateStore.begin(
+                        definition.getName(), sagaKey, firstStepName, toPayload(context)), asyncExecutor)
+                .thenCompose(sagaId -> executeStep(definition, sagaId, context, 0, deadline));
+    }
+
+    /**
+     * 중단된 사가를 복구 규칙에 따라 재개하거나 보상
+     *
+     * @param sagaState 완료되지 않은 사가 상태
+     * @return 복구 후 사가의 최종 상태
+     */
+    public CompletableFuture<SagaStatus> recover(SagaState sagaState) {
+        SagaDefinition<?> definition = definitions.get(sagaState.getSagaType());
+        if (definition == null) {
+            log.warn("No saga definition registered for type: {}", sagaState.getSagaType());
+            return CompletableFuture.completedFuture(sagaState.getStatus());
+        }
+        return recover(definition, sagaState);
+    }
+
+    private <C> CompletableFuture<SagaStatus> recover(SagaDefinition<C> definition, SagaState sagaState) {
+        C context = fromPayload(sagaState.getPayload(), definition.getContextType());
+        List<SagaStep<C>> steps = definition.getSteps();
+        int index = sagaState.getStepIndex();
+
+        if (sagaState.getStatus() == SagaStatus.COMPENSATING) {
+            return compensate(definition, sagaState.getId(), context, index);
+        }
+
+        SagaStep<C> inFlight = steps.get(index);
+        boolean inFlightCompleted = inFlight.getCompletionCheck() != null && inFlight.getCompletionCheck().test(context);
+        if (inFlightCompleted) {
+            index++;
+        }
+
+        boolean resumable = steps.subList(index, steps.size()).stream()
+                .allMatch(step -> step.isResumable() || !step.isCritical());
+        if (resumable) {
+            log.info("Resuming saga {} from step {}", sagaState.getId(), index);
+            // 마감 시각은 요청 스레드의 단조 시계 기준이므로 복구 중인 사가에는 적용하지 않음
+            return executeStep(definition, sagaState.getId(), context, index, Deadline.none())
+                    .handle((result, e) -> e == null ? SagaStatus.COMPLETED : SagaStatus.COMPENSATED);
+        }
+
+        int compensateFrom = inFlightCompleted ? index - 1 : index;
+        log.info("Compensating saga {} from step {}", sagaState.getId(), compensateFrom);
+        return compensate(definition, sagaState.getId(), context, compensateFrom);
+    }
+
+    private <C> CompletableFuture<C> executeStep(SagaDefinition<C> definition, Long sagaId, C context, int index,
+                                                 Deadline deadline) {
+        List<SagaStep<C>> steps = definition.getSteps();
+        if (index == steps.size()) {
+            updateStatusQuietly(sagaId, SagaStatus.COMPLETED);
+            return CompletableFuture.completedFuture(context);
+        }
+
+        SagaStep<C> step = steps.get(index);
+        if (deadline.isExpired() && !step.isCritical()) {
+            log.warn("Deadline exceeded, skipping saga step {}", step.getName());
+            return executeStep(definition, sagaId, context, index + 1, deadline);
+        }
+
+        SagaStepTimers timers = stepTimers.get(definition.getName())[index];
+        CompletableFuture<?> stepFuture;
+        long startNanos = System.nanoTime();
+        try {
+            deadline.check(step.getName());
+            if (index > 0) {
+                // 단계 시작 전 전이를 기록하여 실행 도중 JVM이 종료되어도 복구 가능하도록 함
+                sagaStateStore.advance(sagaId, index, step.getName(), toPayload(context));
+                startNanos = System.nanoTime();
+            }
+            stepFuture = run(step, context);
+        } catch (Exception e) {
+            stepFuture = CompletableFuture.failedFuture(e);
+        }
+
+        long stepStartNanos = startNanos;
+        return stepFuture
+                .handle((result, e) -> {
+                    long nanos = System.nanoTime() - stepStartNanos;
+                    timers.recordStep(nanos, e == null);
+                    if (context instanceof SagaTimingListener listener) {
+                        listener.stepCompleted(step.getName(), nanos);
+                    }
+                    return e == null ? null : Futures.unwrap(e);
+                })
+                .thenCompose(failure -> {
+                    if (failure == null) {
+                        return executeStep(definition, sagaId, context, index + 1, deadline);
+                    }
+                    if (!step.isCritical()) {
+                        // non-critical 단계의 실패는 이전 단계에 영향을 주지 않음
+                        log.error("Saga step {} failed but continuing", step.getName(), failure);
+                        return executeStep(definition, sagaId, context, index + 1, deadline);
+                    }
+                    log.error("Saga step {} failed. Initiating compensation.", step.getName(), failure);
+                    return compensate(definition, sagaId, context, index - 1)
+                            .thenApply(status -> {
+                                throw step.getFailureTranslator().apply(failure);
+                            });
+                });
+    }
+
+    private <C> CompletableFuture<?> run(SagaStep<C> step, C context) {
+        if (step.getAsyncAction() != null) {
+            return step.getAsyncAction().apply(context);
+        }
+        return CompletableFuture.runAsync(() -> step.getAction().accept(context), asyncExecutor);
+    }
+
+    private <C> CompletableFuture<SagaStatus> compensate(SagaDefinition<C> definition, Long sagaId, C context,
+                                                         int fromIndex) {
+        Supplier<SagaStatus> compensation = () -> {
+            updateStatusQuietly(sagaId, SagaStatus.COMPENSATING);
+
+            SagaStepTimers[] timers = stepTimers.get(definition.getName());
+            boolean compensated = true;
+            for (int i = fromIndex; i >= 0; i--) {
+                SagaStep<C> step = definition.getSteps().get(i);
+                if (step.getCompensation() == null) {
+                    continue;
+                }
+                long startNanos = System.nanoTime();
+                boolean stepCompensated = true;
+                try {
+                    step.getCompensation().accept(context);
+                } catch (Exception e) {
+                    // 보상 실패 시에도 나머지 보상은 계속 수행
+                    // 운영팀 모니터링을 위한 에러 로그 기록
+                    stepCompensated = false;
+                    log.error("Compensation of saga step {} failed but continuing", step.getName(), e);
+                }
+                long nanos = System.nanoTime() - startNanos;
+                timers[i].recordCompensation(nanos, stepCompensated);
+                if (context instanceof SagaTimingListener listener) {
+                    listener.compensationCompleted(step.getName(), nanos);
+                }
+                compensated &= stepCompensated;
+            }
+
+            SagaStatus status = compensated ? SagaStatus.COMPENSATED : SagaStatus.COMPENSATION_FAILED;
+            updateStatusQuietly(sagaId, status);
+            return status;
+        };
+
+        try {
+            return CompletableFuture.supplyAsync(compensation, asyncExecutor);
+        } catch (RejectedExecutionException e) {
+            // 실행기가 포화 상태여도 보상은 건너뛰지 않고 현재 스레드에서 수행
+            log.warn("Async executor rejected compensation of saga {}, running it on the caller thread", sagaId);
+            return CompletableFuture.completedFuture(compensation.get());
+        }
+    }
+
+    private void updateStatusQuietly(Long sagaId, SagaStatus status) {
+        try {
+            sagaStateStore.updateStatus(sagaId, status);
+        } catch (Exception e) {
+            log.error("Failed to record saga {} status {}", sagaId, status, e);
+        }
+    }
+
+    private String toPayload(Object context) {
+        try {
+            return objectMapper.writeValueAsString(context);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Saga context is not serializable", e);
+        }
+    }
+
+    private <C> C fromPayload(String payload, Class<C> contextType) {
+        try {
+            return objectMapper.readValue(payload, contextType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Saga context cannot be restored", e);
+        }
+    }
+}
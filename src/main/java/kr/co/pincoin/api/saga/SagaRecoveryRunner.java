@@ -0,0 +1,114 @@
+package kr.co.pincoin.api.saga;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.co.pincoin.api.entity.SagaState;
+import kr.co.pincoin.api.enums.SagaStatus;
+import kr.co.pincoin.api.repository.SagaStateRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 애플리케이션 시작 시 이전 프로세스에서 완료되지 못한 사가를 복구
+ * <p>
+ * - 현재 JVM 시작 이전에 생성된 RUNNING/COMPENSATING 사가만 대상으로 함
+ * - id 기준 키셋 페이지 단위로 조회하고, 페이지 내 사가는 동시 실행 수를 제한하여 병렬 복구
+ * - 전체 소요 시간과 처리량을 로그와 saga.recovery 지표로 보고
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SagaRecoveryRunner {
+    private static final Set<SagaStatus> UNFINISHED = EnumSet.of(SagaStatus.RUNNING, SagaStatus.COMPENSATING);
+
+    private final SagaStateRepository sagaStateRepository;
+
+    private final SagaEngine sagaEngine;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${saga.recovery.batch-size:500}")
+    private int batchSize;
+
+    @Value("${saga.recovery.parallelism:8}")
+    private int parallelism;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverUnfinishedSagas() {
+        LocalDateTime startedBefore = LocalDateTime.ofInstant(
+                Instant.ofEpochMilli(ManagementFactory.getRuntimeMXBean().getStartTime()), ZoneId.systemDefault());
+        Semaphore permits = new Semaphore(parallelism);
+        AtomicInteger recovered = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        long startNanos = System.nanoTime();
+
+        long lastId = 0L;
+        List<SagaState> batch;
+        do {
+            batch = sagaStateRepository.findByStatusInAndCreatedAtBeforeAndIdGreaterThanOrderByIdAsc(
+                    UNFINISHED, startedBefore, lastId, Limit.of(batchSize));
+
+            List<CompletableFuture<?>> futures = new ArrayList<>(batch.size());
+            for (SagaState sagaState : batch) {
+                permits.acquireUninterruptibly();
+                futures.add(recover(sagaState).whenComplete((status, e) -> {
+                    permits.release();
+                    if (e == null) {
+                        recovered.incrementAndGet();
+                    } else {
+                        failed.incrementAndGet();
+                        log.error("Saga recovery failed: {}", sagaState.getId(), e);
+                    }
+                }));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                    .exceptionally(e -> null)
+                    .join();
+
+            if (!batch.isEmpty()) {
+                lastId = batch.getLast().getId();
+            }
+        } while (batch.size() == batchSize);
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+        Timer.builder("saga.recovery")
+                .description("Time taken to recover unfinished sagas at startup")
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        meterRegistry.counter("saga.recovery.sagas", "outcome", "recovered").increment(recovered.get());
+        meterRegistry.counter("saga.recovery.sagas", "outcome", "failed").increment(failed.get());
+
+        int total = recovered.get() + failed.get();
+        if (total > 0) {
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+            log.info("Saga recovery finished: {} sagas ({} failed) in {} ms ({} sagas/s)",
+                    total, failed.get(), elapsedMillis, total * 1000L / Math.max(elapsedMillis, 1));
+        }
+    }
+
+    private CompletableFuture<SagaStatus> recover(SagaState sagaState) {
+        try {
+            return sagaEngine.recover(sagaState);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
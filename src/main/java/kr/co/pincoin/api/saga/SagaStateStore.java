@@ -0,0 +1,50 @@
+package kr.co.pincoin.api.saga;
+
+import kr.co.pincoin.api.entity.SagaState;
+import kr.co.pincoin.api.enums.SagaStatus;
+import kr.co.pincoin.api.repository.SagaStateRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사가 상태 전이를 영속화하는 저장소
+ * 각 전이는 호출한 단계의 트랜잭션과 무관하게 즉시 커밋되어야 하므로 REQUIRES_NEW로 기록
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SagaStateStore {
+    private final SagaStateRepository sagaStateRepository;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Long begin(String sagaType, String sagaKey, String firstStepName, String payload) {
+        SagaState sagaState = SagaState.builder()
+                .sagaType(sagaType)
+                .sagaKey(sagaKey)
+                .status(SagaStatus.RUNNING)
+                .stepIndex(0)
+                .stepName(firstStepName)
+                .payload(payload)
+                .build();
+        sagaStateRepository.save(sagaState);
+        log.debug("Saga started: {} ({}) for key: {}", sagaState.getId(), sagaType, sagaKey);
+        return sagaState.getId();
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void advance(Long sagaId, int stepIndex, String stepName, String payload) {
+        sagaStateRepository.advance(sagaId, SagaStatus.RUNNING, stepIndex, stepName, payload, LocalDateTime.now());
+        log.debug("Saga {} advanced to step {} ({})", sagaId, stepIndex, stepName);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void updateStatus(Long sagaId, SagaStatus status) {
+        sagaStateRepository.updateStatus(sagaId, status, LocalDateTime.now());
+        log.debug("Saga {} status changed to {}", sagaId, status);
+    }
+}
@@ -0,0 +1,48 @@
+package kr.co.pincoin.api.saga;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 사가를 구성하는 하나의 단계와 그 보상 동작
+ * <p>
+ * - action: 동기 작업, 엔진이 비동기 실행기에서 수행 (DB 트랜잭션 등)
+ * - asyncAction: 스스로 CompletableFuture를 반환하는 비동기 작업 (외부 API 호출 등)
+ * - compensation: 이미 완료된 단계를 되돌리는 보상 동작, 재시도될 수 있으므로 멱등이어야 함
+ * - critical: false이면 실패해도 사가를 계속 진행 (알림 등)
+ * - resumable: 복구 시 다시 실행해도 안전한 단계인지 여부
+ * - completionCheck: 복구 시 진행 중이던 단계가 실제로는 완료되었는지 확인
+ * - failureTranslator: 단계 실패 원인을 호출자에게 전파할 예외로 변환
+ */
+@Getter
+@Builder
+public class SagaStep<C> {
+    private final String name;
+
+    private final Consumer<C> action;
+
+    private final Function<C, CompletableFuture<?>> asyncAction;
+
+    private final Consumer<C> compensation;
+
+    private final Predicate<C> completionCheck;
+
+    @Builder.Default
+    private final boolean critical = true;
+
+    @Builder.Default
+    private final boolean resumable = false;
+
+    @Builder.Default
+    private final Function<Throwable, RuntimeException> failureTranslator = SagaStep::propagate;
+
+    public static RuntimeException propagate(Throwable e) {
+        return e instanceof RuntimeException runtimeException ? runtimeException : new CompletionException(e);
+    }
+}
@@ -0,0 +1,59 @@
+package kr.co.pincoin.api.saga;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사가 단계 하나의 실행/보상 소요 시간 타이머
+ * <p>
+ * 사가 정의를 등록할 때 태그 조합마다 타이머를 미리 만들어 두므로,
+ * 단계마다 기록할 때는 태그 조회나 객체 생성 없이 히스토그램 버킷만 갱신함
+ * <p>
+ * [지표] (saga=사가 이름, step=단계 이름 태그)
+ * - saga.step: 단계 실행 시간 (outcome=success|failure)
+ * - saga.compensation: 단계 보상 시간 (outcome=success|failure)
+ */
+class SagaStepTimers {
+    private static final Duration MINIMUM_EXPECTED = Duration.ofMillis(1);
+
+    private static final Duration MAXIMUM_EXPECTED = Duration.ofSeconds(60);
+
+    private final Timer succeeded;
+
+    private final Timer failed;
+
+    private final Timer compensated;
+
+    private final Timer compensationFailed;
+
+    SagaStepTimers(String sagaName, String stepName, MeterRegistry meterRegistry) {
+        this.succeeded = timer("saga.step", "Saga step execution time", sagaName, stepName, "success", meterRegistry);
+        this.failed = timer("saga.step", "Saga step execution time", sagaName, stepName, "failure", meterRegistry);
+        this.compensated = timer("saga.compensation", "Saga step compensation time",
+                sagaName, stepName, "success", meterRegistry);
+        this.compensationFailed = timer("saga.compensation", "Saga step compensation time",
+                sagaName, stepName, "failure", meterRegistry);
+    }
+
+    void recordStep(long nanos, boolean success) {
+        (success ? succeeded : failed).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    void recordCompensation(long nanos, boolean success) {
+        (success ? compensated : compensationFailed).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static Timer timer(String name, String description, String sagaName, String stepName, String outcome,
+                               MeterRegistry meterRegistry) {
+        return Timer.builder(name)
+                .description(description)
+                .tags("saga", sagaName, "step", stepName, "outcome", outcome)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(MINIMUM_EXPECTED)
+                .maximumExpectedValue(MAXIMUM_EXPECTED)
+                .register(meterRegistry);
+    }
+}
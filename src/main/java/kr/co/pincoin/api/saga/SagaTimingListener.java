@@ -0,0 +1,11 @@
+package kr.co.pincoin.api.saga;
+
+/**
+ * 단계별 소요 시간을 요청 단위로 받아 보는 사가 문맥
+ * 문맥이 이 인터페이스를 구현하면 SagaEngine이 단계 지표를 기록할 때 같은 측정값을 함께 전달
+ */
+public interface SagaTimingListener {
+    void stepCompleted(String stepName, long nanos);
+
+    void compensationCompleted(String stepName, long nanos);
+}
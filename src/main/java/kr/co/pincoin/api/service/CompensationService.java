@@ -0,0 +1,94 @@
+package kr.co.pincoin.api.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.co.pincoin.api.dto.CancellationRequest;
+import kr.co.pincoin.api.dto.DeadLetterResponse;
+import kr.co.pincoin.api.dto.OrderRequest;
+import kr.co.pincoin.api.entity.DeadLetter;
+import kr.co.pincoin.api.entity.OutboxEvent;
+import kr.co.pincoin.api.enums.OutboxEventType;
+import kr.co.pincoin.api.repository.DeadLetterRepository;
+import kr.co.pincoin.api.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 외부 API 취소(보상)를 outbox에 기록하고, 끝내 취소하지 못한 dead letter를 조회/재처리하는 서비스
+ * 실제 취소 API 호출은 CompensationRelay가 커밋 이후 병렬로 수행
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CompensationService {
+    private final OutboxEventRepository outboxEventRepository;
+
+    private final DeadLetterRepository deadLetterRepository;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 외부 API 취소 요청을 outbox에 기록
+     * 사가 보상 중에 호출되며, 취소 API 응답을 기다리지 않으므로 실패 응답이 바로 반환됨
+     *
+     * @param request 주문 요청 정보
+     */
+    @Transactional
+    public void enqueueCancellation(OrderRequest request) {
+        enqueueCancellation(request, null);
+    }
+
+    /**
+     * 주문의 승인 중 referenceId 한 건만 취소하는 요청을 outbox에 기록
+     * 헤지 요청에서 나중에 도착한 승인이나 호출자가 포기한 뒤 도착한 승인을 취소할 때 사용
+     *
+     * @param request     주문 요청 정보
+     * @param referenceId 취소할 승인의 참조번호 (null이면 주문의 승인을 취소)
+     */
+    @Transactional
+    public void enqueueCancellation(OrderRequest request, String referenceId) {
+        outboxEventRepository.save(OutboxEvent.of(OutboxEventType.EXTERNAL_API_CANCELLATION,
+                request.getOrderId(), cancellationPayload(request, referenceId)));
+        if (referenceId == null) {
+            log.info("Cancellation enqueued for order: {}", request.getOrderId());
+        } else {
+            log.info("Cancellation of reference {} enqueued for order: {}", referenceId, request.getOrderId());
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<DeadLetterResponse> findDeadLetters(int limit) {
+        return deadLetterRepository.findByEventTypeOrderByIdAsc(OutboxEventType.EXTERNAL_API_CANCELLATION,
+                        Limit.of(limit)).stream()
+                .map(DeadLetterResponse::from)
+                .toList();
+    }
+
+    /**
+     * 오래된 순으로 최대 limit건의 dead letter를 시도 횟수를 초기화한 대기 이벤트로 되돌림
+     *
+     * @return 되돌린 건수
+     */
+    @Transactional
+    public int replayDeadLetters(int limit) {
+        List<DeadLetter> deadLetters = deadLetterRepository.findForUpdateByEventTypeOrderByIdAsc(
+                OutboxEventType.EXTERNAL_API_CANCELLATION, Limit.of(limit));
+        outboxEventRepository.saveAll(deadLetters.stream().map(DeadLetter::toOutboxEvent).toList());
+        deadLetterRepository.deleteAllInBatch(deadLetters);
+        log.info("Replayed {} dead-lettered cancellations", deadLetters.size());
+        return deadLetters.size();
+    }
+
+    private String cancellationPayload(OrderRequest request, String referenceId) {
+        try {
+            return objectMapper.writeValueAsString(CancellationRequest.of(request, referenceId));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cancellation payload is not serializable", e);
+        }
+    }
+}
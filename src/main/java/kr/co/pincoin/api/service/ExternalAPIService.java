@@ -1,9 +1,17 @@
 package kr.co.pincoin.api.service;
 
+import kr.co.pincoin.api.diagnostics.ExternalCallEvent;
 import kr.co.pincoin.api.dto.APIResponse;
 import kr.co.pincoin.api.dto.OrderRequest;
+import kr.co.pincoin.api.exception.BulkheadFullException;
+import kr.co.pincoin.api.exception.CircuitOpenException;
 import kr.co.pincoin.api.external.ExternalAPIClient;
 import kr.co.pincoin.api.logger.TransactionLogger;
+import kr.co.pincoin.api.resilience.Bulkhead;
+import kr.co.pincoin.api.resilience.CircuitBreaker;
+import kr.co.pincoin.api.resilience.Deadline;
+import kr.co.pincoin.api.resilience.Hedger;
+import kr.co.pincoin.api.resilience.Retrier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -18,16 +26,59 @@ public class ExternalAPIService {
 
     private final TransactionLogger transactionLogger;
 
-    public CompletableFuture<APIResponse> processAndLog(OrderRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
-            APIResponse response = externalAPIClient.processAsync(request);
-            transactionLogger.logTransaction("First External API call", request);
-            return response;
-        });
+    private final CompensationService compensationService;
+
+    private final CircuitBreaker externalApiCircuitBreaker;
+
+    private final Bulkhead externalApiBulkhead;
+
+    private final Hedger externalApiHedger;
+
+    private final Retrier externalApiRetrier;
+
+    /**
+     * 외부 API를 지금 호출할 수 없으면 즉시 예외
+     *
+     * @throws CircuitOpenException  서킷이 열려 있는 경우
+     * @throws BulkheadFullException 전용 실행기의 대기열이 가득 찬 경우
+     */
+    public void ensureAvailable() {
+        if (!externalApiCircuitBreaker.isCallPermitted()) {
+            throw new CircuitOpenException("External API circuit is open");
+        }
+        if (!externalApiBulkhead.hasCapacity()) {
+            throw new BulkheadFullException("External API bulkhead is full");
+        }
+    }
+
+    public CompletableFuture<APIResponse> processAndLog(OrderRequest request, Deadline deadline) {
+        // 외부 API 전용 벌크헤드에서 실행, 가득 찼거나 서킷이 열려 있으면 즉시 실패
+        // 응답이 늦으면 헤지 호출을 추가하고, 나중에 도착한 승인은 CompensationService로 취소 요청을 기록
+        // 일시적인 실패는 재시도 예산과 마감 시각 안에서 재시도
+        // 마감 시각까지 응답이 없으면 호출 스레드를 인터럽트하고 로그를 남기지 않음
+        CompletableFuture<APIResponse> call = externalApiRetrier.execute(() -> externalApiHedger.execute(
+                () -> externalApiCircuitBreaker.execute(() -> callExternalAPI(request)),
+                loser -> compensationService.enqueueCancellation(request, loser.getReferenceId())), deadline);
+        return deadline.bound(call, "external API call")
+                .thenApply(response -> {
+                    transactionLogger.logTransaction("First External API call", request);
+                    return response;
+                });
     }
 
-    public void cancelProcess(OrderRequest request) {
-        externalAPIClient.cancelAsync(request);
-        transactionLogger.logTransaction("Compensation - First API cancellation", request);
+    /**
+     * 외부 API 승인 호출 한 번 (헤지 요청과 재시도는 각각 호출)
+     * JFR 녹화 중이면 ExternalCallEvent로 소요 시간을 남김
+     */
+    private APIResponse callExternalAPI(OrderRequest request) {
+        ExternalCallEvent event = ExternalCallEvent.start(ExternalCallEvent.PROCESS);
+        boolean success = false;
+        try {
+            APIResponse response = externalAPIClient.processAsync(request);
+            success = true;
+            return response;
+        } finally {
+            event.finish(request.getOrderId(), success);
+        }
     }
 }
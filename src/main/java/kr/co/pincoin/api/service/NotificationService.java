@@ -1,35 +1,40 @@
 package kr.co.pincoin.api.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import kr.co.pincoin.api.dto.OrderRequest;
-import kr.co.pincoin.api.external.NotificationAPIClient;
-import kr.co.pincoin.api.logger.TransactionLogger;
+import kr.co.pincoin.api.entity.OutboxEvent;
+import kr.co.pincoin.api.enums.OutboxEventType;
+import kr.co.pincoin.api.repository.OutboxEventRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.concurrent.CompletableFuture;
-
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class NotificationService {
-    private final NotificationAPIClient notificationAPIClient;
+    private final OutboxEventRepository outboxEventRepository;
 
-    private final TransactionLogger transactionLogger;
+    private final ObjectMapper objectMapper;
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void sendNotification(OrderRequest request) {
+    /**
+     * 알림 이벤트를 outbox에 기록
+     * 호출한 트랜잭션(결제 저장)과 함께 커밋되므로 롤백된 주문에 대해서는 알림이 발송되지 않음
+     * 실제 발송은 OutboxRelay가 커밋 이후 배치 단위로 수행
+     *
+     * @param request 주문 요청 정보
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueNotification(OrderRequest request) {
         try {
-            CompletableFuture.runAsync(() -> {
-                notificationAPIClient.notify(request);
-                transactionLogger.logTransaction("Second External API call (Notification)", request);
-            });
-        } catch (Exception e) {
-            // 4번 실패는 이전 트랜잭션에 영향 없음
-            log.error("Notification API call failed but continuing", e);
+            outboxEventRepository.save(OutboxEvent.of(OutboxEventType.ORDER_NOTIFICATION,
+                    request.getOrderId(), objectMapper.writeValueAsString(request)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Notification payload is not serializable", e);
         }
+        log.debug("Notification enqueued for order: {}", request.getOrderId());
     }
 }
-
@@ -0,0 +1,207 @@
+package kr.co.pincoin.api.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.co.pincoin.api.dto.OrderRequest;
+import kr.co.pincoin.api.dto.OrderResult;
+import kr.co.pincoin.api.entity.Order;
+import kr.co.pincoin.api.exception.DuplicateOrderException;
+import kr.co.pincoin.api.exception.OrderProcessingException;
+import kr.co.pincoin.api.resilience.Deadline;
+import kr.co.pincoin.api.resilience.Futures;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+
+/**
+ * 주문 일괄 접수 서비스
+ * <p>
+ * [처리 방식]
+ * - JSON 배열 또는 NDJSON 본문을 한 건씩 스트림 파싱 (본문 전체를 메모리에 올리지 않음)
+ * - chunk-size개 단위로 주문을 한 트랜잭션에 저장
+ * - 저장된 주문의 나머지 단계는 퍼사드 사가로 처리하며 동시 처리 수는 parallelism으로 제한
+ * - 이미 처리 중이거나 처리된 주문번호는 새로 저장하지 않고 기존 결과를 응답 (OrderIdempotencyCache)
+ * - 처리 중인 주문이 parallelism개에 도달하면 파싱을 멈추므로 본문 크기와 관계없이 메모리 사용량이 일정
+ * - 주문별 결과는 완료되는 순서대로 전달
+ * - 주문마다 사가를 시작하는 시점부터 order-timeout의 마감 시각을 적용
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderBatchService {
+    private final ObjectMapper objectMapper;
+
+    private final OrderService orderService;
+
+    private final OrderFacade orderFacade;
+
+    private final OrderIdempotencyCache orderIdempotencyCache;
+
+    private final OrderStatusService orderStatusService;
+
+    @Value("${order.batch.chunk-size:100}")
+    private int chunkSize;
+
+    @Value("${order.batch.parallelism:8}")
+    private int parallelism;
+
+    @Value("${order.batch.order-timeout:${order.deadline.default-timeout:30s}}")
+    private Duration orderTimeout;
+
+    /**
+     * 주문 일괄 처리
+     *
+     * @param body       JSON 배열 또는 NDJSON 형식의 주문 요청 본문
+     * @param resultSink 주문별 처리 결과를 받는 콜백 (여러 스레드에서 호출됨)
+     * @return 접수한 주문 수
+     * @throws IOException 본문을 읽을 수 없는 경우
+     */
+    public int processBatch(InputStream body, Consumer<OrderResult> resultSink) throws IOException {
+        Semaphore permits = new Semaphore(parallelism);
+        List<OrderRequest> chunk = new ArrayList<>(chunkSize);
+        int accepted = 0;
+
+        try (MappingIterator<OrderRequest> requests = objectMapper.readerFor(OrderRequest.class).readValues(body)) {
+            while (requests.hasNextValue()) {
+                chunk.add(requests.nextValue());
+                if (chunk.size() == chunkSize) {
+                    accepted += dispatch(chunk, permits, resultSink);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+        } catch (JsonProcessingException e) {
+            // 오류 위치 이전까지 읽은 주문은 처리하고 이후 본문은 버림
+            log.warn("Malformed order batch after {} orders", accepted + chunk.size(), e);
+            resultSink.accept(OrderResult.failed(null, "Malformed order batch: " + e.getOriginalMessage()));
+        } finally {
+            try {
+                if (!chunk.isEmpty()) {
+                    accepted += dispatch(chunk, permits, resultSink);
+                }
+            } finally {
+                // 처리 중인 주문이 모두 완료될 때까지 대기
+                permits.acquireUninterruptibly(parallelism);
+            }
+        }
+
+        log.info("Order batch processed: {} orders", accepted);
+        return accepted;
+    }
+
+    private int dispatch(List<OrderRequest> chunk, Semaphore permits, Consumer<OrderResult> resultSink) {
+        // 중복 주문번호는 진행 중이거나 완료된 결과를 공유하고, 처음 접수된 주문만 이 배치가 처리
+        List<Claim> claims = new ArrayList<>(chunk.size());
+        List<CompletableFuture<OrderResult>> results = new ArrayList<>(chunk.size());
+        for (OrderRequest request : chunk) {
+            Claim claim = new Claim(request);
+            claims.add(claim);
+            results.add(orderIdempotencyCache.execute(request.getOrderId(), claim::own));
+        }
+
+        createOrders(claims.stream().filter(Claim::isOwned).toList());
+
+        for (int i = 0; i < chunk.size(); i++) {
+            Claim claim = claims.get(i);
+            permits.acquireUninterruptibly();
+            if (claim.isOwned() && claim.orderPk != null) {
+                CompletableFuture<OrderResult> future;
+                try {
+                    future = orderFacade.processCreatedOrderAsync(claim.request, claim.orderPk,
+                            Deadline.after(orderTimeout));
+                } catch (Exception e) {
+                    future = CompletableFuture.failedFuture(e);
+                }
+                future.whenComplete(claim::complete);
+            }
+            results.get(i)
+                    .handle((result, e) -> e == null ? result : OrderResult.failed(claim.request.getOrderId(), describe(e)))
+                    .thenAccept(resultSink)
+                    .whenComplete((result, e) -> permits.release());
+        }
+        return chunk.size();
+    }
+
+    private void createOrders(List<Claim> claims) {
+        if (claims.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<Order> orders = orderService.createOrders(claims.stream().map(claim -> claim.request).toList());
+            for (int i = 0; i < claims.size(); i++) {
+                claims.get(i).orderPk = orders.get(i).getId();
+            }
+            return;
+        } catch (Exception e) {
+            // 이미 저장된 주문번호가 섞여 있으면 묶음 전체가 롤백되므로 한 건씩 다시 저장
+            log.warn("Failed to create {} orders in batch, retrying one by one", claims.size(), e);
+        }
+
+        for (Claim claim : claims) {
+            try {
+                claim.orderPk = orderService.createOrder(claim.request).getId();
+            } catch (DataIntegrityViolationException e) {
+                // 저장된 결과가 있으면 그 결과로 응답하고, 처리 중인 주문이면 중복으로 거부
+                orderStatusService.findFinishedResult(claim.request.getOrderId()).ifPresentOrElse(
+                        finished -> claim.complete(finished, null),
+                        () -> claim.complete(null, new OrderProcessingException("Order processing failed",
+                                new DuplicateOrderException("Order already exists", e))));
+            } catch (Exception e) {
+                claim.complete(null, e);
+            }
+        }
+    }
+
+    private static String describe(Throwable e) {
+        e = Futures.unwrap(e);
+        // OrderProcessingException은 실패한 단계의 예외를 원인으로 가짐
+        return e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
+    }
+
+    /**
+     * 배치 안의 주문 한 건에 대한 처리 권한
+     * 멱등 처리에서 처음 접수된 경우에만 owned가 되어 주문 저장과 사가 실행을 담당
+     */
+    private static class Claim {
+        private final OrderRequest request;
+
+        private final CompletableFuture<OrderResult> result = new CompletableFuture<>();
+
+        private boolean owned;
+
+        private Long orderPk;
+
+        Claim(OrderRequest request) {
+            this.request = request;
+        }
+
+        CompletableFuture<OrderResult> own() {
+            owned = true;
+            return result;
+        }
+
+        boolean isOwned() {
+            return owned;
+        }
+
+        void complete(OrderResult orderResult, Throwable e) {
+            if (e == null) {
+                result.complete(orderResult);
+            } else {
+                result.completeExceptionally(e);
+            }
+        }
+    }
+}
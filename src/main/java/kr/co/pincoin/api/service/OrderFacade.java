@@ -1,19 +1,37 @@
 package kr.co.pincoin.api.service;
 
 
-import kr.co.pincoin.api.dto.APIResponse;
+import jakarta.annotation.PostConstruct;
+import kr.co.pincoin.api.diagnostics.CompensationEvent;
+import kr.co.pincoin.api.diagnostics.OrderCreatedEvent;
+import kr.co.pincoin.api.diagnostics.PaymentPersistedEvent;
+import kr.co.pincoin.api.diagnostics.ServerTiming;
 import kr.co.pincoin.api.dto.OrderRequest;
+import kr.co.pincoin.api.dto.OrderResult;
+import kr.co.pincoin.api.dto.OrderSagaContext;
+import kr.co.pincoin.api.enums.OrderStep;
+import kr.co.pincoin.api.exception.BulkheadFullException;
+import kr.co.pincoin.api.exception.CircuitOpenException;
+import kr.co.pincoin.api.exception.DuplicateOrderException;
 import kr.co.pincoin.api.exception.ExternalAPIException;
 import kr.co.pincoin.api.exception.OrderProcessingException;
 import kr.co.pincoin.api.exception.PaymentProcessingException;
+import kr.co.pincoin.api.resilience.Deadline;
+import kr.co.pincoin.api.resilience.Futures;
+import kr.co.pincoin.api.saga.SagaDefinition;
+import kr.co.pincoin.api.saga.SagaEngine;
+import kr.co.pincoin.api.saga.SagaStep;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletionException;
 
 /**
  * 퍼사드 패턴을 구현한 서비스
@@ -35,89 +53,256 @@ public class OrderFacade {
 
     private final NotificationService notificationService;
 
+    private final CompensationService compensationService;
+
+    private final SagaEngine sagaEngine;
+
+    private final OrderIdempotencyCache orderIdempotencyCache;
+
+    private final OrderStatusService orderStatusService;
+
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${order.deadline.default-timeout:30s}")
+    private Duration defaultTimeout;
+
+    private SagaDefinition<OrderSagaContext> orderSaga;
+
     /**
-     * 퍼사드 패턴의 주문 처리 메소드
-     * 각 단계별 처리를 전문 서비스에 위임하여 처리
+     * 퍼사드 패턴의 주문 처리 사가 정의
+     * 각 단계는 전문 서비스에 위임하며, 단계 실행/보상/상태 기록은 SagaEngine이 담당
      *
      * [처리 순서와 트랜잭션 규칙]
      * 1. OrderService를 통한 주문 생성 (DB 트랜잭션)
      *    - 주문 정보를 데이터베이스에 저장
+     *    - 같은 주문번호가 이미 있으면 DuplicateOrderException
+     *    - 보상: 주문 실패 상태 변경
+     *    - 복구 시: 식별자를 기록하기 전에 중단되었으면 사가 시작 이후 저장된 같은 주문번호의 주문을 찾아 사용
      *
      * 2. ExternalAPIService를 통한 첫 번째 외부 API 처리 (비동기)
      *    - API 호출 및 로깅 수행
-     *    - 실패 시: 1번 작업 롤백
-     *    - 타임아웃: 30초
+     *    - 일시적인 실패는 마감 시각 안에서 재시도
+     *    - 실패 시: 1번 작업 무효화
+     *    - 타임아웃: 요청의 마감 시각까지 (초과 시 호출 스레드를 인터럽트하고 1번 작업 무효화)
+     *    - 보상: CompensationService를 통해 취소 요청을 outbox에 기록 (CompensationRelay가 취소 API 호출)
      *
      * 3. PaymentService를 통한 결제 처리 (DB 트랜잭션)
      *    - API 응답 결과를 기반으로 결제 정보 저장
-     *    - 실패 시: 2번 작업 취소 API 호출 후 1번 작업 롤백
+     *    - 실패 시: 2번 작업 취소 요청 기록 후 1번 작업 무효화
+     *    - 남은 마감 시간을 트랜잭션 제한 시간으로 사용
+     *    - 복구 시: 결제가 이미 저장되었으면 건너뛰고, 아니면 저장된 API 응답으로 재실행
      *
-     * 4. NotificationService를 통한 알림 발송 (비동기)
-     *    - 알림 API 호출 및 로깅
-     *    - 실패 시: 이전 작업들 롤백하지 않음 (무시)
+     * 4. NotificationService를 통한 알림 이벤트 기록 (3번과 같은 트랜잭션)
+     *    - 결제와 함께 커밋된 경우에만 OutboxRelay가 알림 API 호출 및 로깅
+     *    - 발송 실패 시: 이전 작업들 롤백하지 않고 릴레이가 재시도
+     */
+    @PostConstruct
+    void registerOrderSaga() {
+        orderSaga = SagaDefinition.of("facade", OrderSagaContext.class,
+                SagaStep.<OrderSagaContext>builder()
+                        .name(OrderStep.CREATE_ORDER.name())
+                        .action(this::createOrder)
+                        .compensation(this::failOrder)
+                        .completionCheck(this::isOrderCreated)
+                        .failureTranslator(e -> e instanceof DataIntegrityViolationException
+                                ? new DuplicateOrderException("Order already exists", e)
+                                : SagaStep.propagate(e))
+                        .build(),
+                SagaStep.<OrderSagaContext>builder()
+                        .name(OrderStep.EXTERNAL_API.name())
+                        .asyncAction(context -> externalAPIService.processAndLog(context.getRequest(), context.getDeadline())
+                                .thenAccept(context::setApiResponse))
+                        .compensation(this::enqueueCancellation)
+                        .failureTranslator(e -> new ExternalAPIException("External API call failed, rolling back order", e))
+                        .build(),
+                SagaStep.<OrderSagaContext>builder()
+                        .name(OrderStep.PAYMENT.name())
+                        .action(this::processPayment)
+                        .completionCheck(context -> paymentService.isPaymentProcessed(context.getRequest().getOrderId()))
+                        .resumable(true)
+                        .failureTranslator(e -> new PaymentProcessingException("Payment failed, rolled back previous operations", e))
+                        .build());
+        sagaEngine.register(orderSaga);
+    }
+
+    /**
+     * 1번 단계: 일괄 접수로 이미 저장된 주문이 아니면 OrderService로 주문 저장
+     * JFR 녹화 중이면 OrderCreatedEvent로 소요 시간을 남김
+     */
+    private void createOrder(OrderSagaContext context) {
+        if (context.getOrderPk() != null) {
+            return;
+        }
+        OrderCreatedEvent event = OrderCreatedEvent.start();
+        boolean success = false;
+        try {
+            context.setOrderPk(orderService.createOrder(context.getRequest()).getId());
+            success = true;
+        } finally {
+            event.finish(context.getRequest().getOrderId(), success);
+        }
+    }
+
+    /**
+     * 1번 단계 완료 확인: 문맥에 식별자가 없으면 사가 시작 이후 저장된 같은 주문번호의 주문을 찾아 문맥에 기록
+     * (주문 저장은 커밋되었지만 다음 전이를 기록하기 전에 중단된 경우)
+     */
+    private boolean isOrderCreated(OrderSagaContext context) {
+        if (context.getOrderPk() == null && context.getStartedAt() != null) {
+            orderService.findOrderPkCreatedSince(context.getRequest().getOrderId(), context.getStartedAt())
+                    .ifPresent(context::setOrderPk);
+        }
+        return context.getOrderPk() != null;
+    }
+
+    /**
+     * 1번 단계 보상: 저장된 주문을 실패 상태로 변경
+     */
+    private void failOrder(OrderSagaContext context) {
+        if (!isOrderCreated(context)) {
+            return;
+        }
+        CompensationEvent event = CompensationEvent.start(OrderStep.CREATE_ORDER.name());
+        boolean success = false;
+        try {
+            orderService.failOrder(context.getOrderPk());
+            success = true;
+        } finally {
+            event.finish(context.getRequest().getOrderId(), success);
+        }
+    }
+
+    /**
+     * 2번 단계 보상: CompensationService로 외부 API 취소 요청을 기록
+     */
+    private void enqueueCancellation(OrderSagaContext context) {
+        CompensationEvent event = CompensationEvent.start(OrderStep.EXTERNAL_API.name());
+        boolean success = false;
+        try {
+            compensationService.enqueueCancellation(context.getRequest());
+            success = true;
+        } finally {
+            event.finish(context.getRequest().getOrderId(), success);
+        }
+    }
+
+    /**
+     * 3번, 4번 단계: PaymentService와 NotificationService를 같은 트랜잭션으로 묶어 실행
+     * 남은 마감 시간을 트랜잭션 제한 시간으로 사용하며, JFR 녹화 중이면 PaymentPersistedEvent로 커밋까지의 시간을 남김
+     */
+    private void processPayment(OrderSagaContext context) {
+        PaymentPersistedEvent event = PaymentPersistedEvent.start();
+        boolean success = false;
+        try {
+            context.getDeadline().bound(transactionTemplate, OrderStep.PAYMENT.name())
+                    .executeWithoutResult(status -> {
+                        paymentService.processPayment(context.getRequest(), context.getApiResponse());
+                        notificationService.enqueueNotification(context.getRequest());
+                    });
+            success = true;
+        } finally {
+            event.finish(context.getRequest().getOrderId(), success);
+        }
+    }
+
+    /**
+     * 퍼사드 패턴의 주문 처리 메소드
+     * 비동기 사가의 완료를 기다리는 동기 진입점 (마감 시각은 order.deadline.default-timeout)
      *
      * [트랜잭션 특징]
      * - 전체 프로세스(1~4)는 하나의 원자적 단위로 처리
+     * - 1번과 3번(+4번 알림 이벤트)은 각각 짧은 개별 트랜잭션으로 커밋
+     * - 외부 API 호출 동안에는 DB 커넥션과 트랜잭션을 점유하지 않음
      * - 각 단계는 독립된 서비스가 담당하지만, 트랜잭션 정책은 동일:
      *   - 4번 실패: 롤백 없음
-     *   - 3번 실패: 2번 보상 트랜잭션 수행 + 1번 롤백
-     *   - 2번 실패: 1번 롤백
+     *   - 3번 실패: 2번 보상 트랜잭션 수행 + 1번 무효화(주문 실패 상태 변경)
+     *   - 2번 실패: 1번 무효화(주문 실패 상태 변경)
      *   - 1번 실패: 즉시 종료
+     * - 각 단계 전이는 saga_states에 기록되어 프로세스가 중단되어도 재시작 시 복구됨
      *
      * @param request 주문 요청 정보
-     * @throws OrderProcessingException 주문 처리 실패 시
-     * @throws ExternalAPIException 외부 API 호출 실패 시
-     * @throws PaymentProcessingException 결제 처리 실패 시
+     * @throws OrderProcessingException 주문 처리 실패 시 (원인으로 ExternalAPIException 또는 PaymentProcessingException)
      */
-    @Transactional(propagation = Propagation.REQUIRED)
     public void processOrder(OrderRequest request) {
         try {
-            // Step 1: OrderService를 통한 주문 생성
-            // - 주문 정보의 유효성 검증 및 DB 저장
-            // - OrderService가 세부적인 주문 생성 로직을 캡슐화
-            orderService.createOrder(request);
+            processOrderAsync(request, Deadline.after(defaultTimeout)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof OrderProcessingException orderProcessingException) {
+                throw orderProcessingException;
+            }
+            throw new OrderProcessingException("Order processing failed", Futures.unwrap(e));
+        }
+    }
 
+    /**
+     * 퍼사드 패턴의 비동기 주문 처리 메소드
+     * 요청 스레드를 점유하지 않고 사가 엔진이 1~4단계를 CompletableFuture 체인으로 연결
+     * 같은 주문번호의 중복 요청은 OrderIdempotencyCache가 진행 중이거나 완료된 결과를 공유
+     * 외부 API 서킷이 열려 있거나 벌크헤드가 가득 차 있으면 사가를 시작하지 않고 즉시 실패
+     *
+     * @param request  주문 요청 정보
+     * @param deadline 처리 마감 시각 (지나면 남은 단계를 시작하지 않고 보상 후 실패)
+     * @return 주문 처리 결과를 담은 Future, 실패 시 OrderProcessingException으로 완료
+     */
+    public CompletableFuture<OrderResult> processOrderAsync(OrderRequest request, Deadline deadline) {
+        return processOrderAsync(request, deadline, ServerTiming.disabled());
+    }
+
+    /**
+     * 단계별 소요 시간을 serverTiming에 기록하며 비동기 주문 처리
+     *
+     * @param request      주문 요청 정보
+     * @param deadline     처리 마감 시각
+     * @param serverTiming 단계별 소요 시간을 모을 문맥
+     * @return 주문 처리 결과를 담은 Future, 실패 시 OrderProcessingException으로 완료
+     */
+    public CompletableFuture<OrderResult> processOrderAsync(OrderRequest request, Deadline deadline,
+                                                            ServerTiming serverTiming) {
+        return orderIdempotencyCache.execute(request.getOrderId(), () -> {
             try {
-                // Step 2: ExternalAPIService를 통한 외부 API 처리
-                // - API 호출, 로깅, 응답 처리를 서비스가 전담
-                // - 30초 타임아웃 적용
-                CompletableFuture<APIResponse> apiResponseFuture = externalAPIService.processAndLog(request);
-                APIResponse apiResponse = apiResponseFuture.get(30, TimeUnit.SECONDS);
-
-                try {
-                    // Step 3: PaymentService를 통한 결제 처리
-                    // - 결제 정보 유효성 검증 및 DB 저장
-                    // - 결제 관련 비즈니스 로직을 서비스가 캡슐화
-                    paymentService.processPayment(request, apiResponse);
-
-                    // Step 4: NotificationService를 통한 알림 발송
-                    // - 알림 전송 로직을 서비스가 캡슐화
-                    // - 실패해도 이전 단계 롤백하지 않음
-                    notificationService.sendNotification(request);
-
-                } catch (Exception e) {
-                    // Step 3 실패 시 보상 트랜잭션
-                    // - ExternalAPIService를 통한 API 취소 처리
-                    // - 결제 실패 예외를 전파하여 DB 트랜잭션 롤백
-                    log.error("Payment processing failed. Initiating compensation.", e);
-                    externalAPIService.cancelProcess(request);
-                    throw new PaymentProcessingException("Payment failed, rolled back previous operations", e);
-                }
-            } catch (Exception e) {
-                // Step 2 실패 처리
-                // - PaymentProcessingException은 상위로 전파
-                // - 다른 예외는 ExternalAPIException으로 변환
-                if (e instanceof PaymentProcessingException) {
-                    throw e;
-                }
-                log.error("First external API call failed.", e);
-                throw new ExternalAPIException("External API call failed, rolling back order", e);
+                // 외부 API를 호출할 수 없으면 주문을 저장하지 않고 즉시 거부
+                externalAPIService.ensureAvailable();
+            } catch (CircuitOpenException | BulkheadFullException e) {
+                return CompletableFuture.failedFuture(new OrderProcessingException("Order processing failed", e));
             }
-        } catch (Exception e) {
-            // 전체 프로세스 실패 처리
-            // - 모든 예외를 OrderProcessingException으로 변환하여 전파
-            log.error("Order processing failed completely", e);
-            throw new OrderProcessingException("Order processing failed", e);
-        }
+            return execute(OrderSagaContext.of(request, deadline, serverTiming));
+        });
+    }
+
+    /**
+     * 일괄 접수로 이미 저장된 주문의 나머지 단계(2~4)를 처리
+     * 1번 단계는 건너뛰지만 실패 시 주문 실패 상태 변경 보상은 동일하게 수행
+     *
+     * @param request  주문 요청 정보
+     * @param orderPk  저장된 주문 엔티티 식별자
+     * @param deadline 처리 마감 시각
+     * @return 주문 처리 결과를 담은 Future, 실패 시 OrderProcessingException으로 완료
+     */
+    public CompletableFuture<OrderResult> processCreatedOrderAsync(OrderRequest request, Long orderPk,
+                                                                   Deadline deadline) {
+        OrderSagaContext context = OrderSagaContext.of(request, deadline);
+        context.setOrderPk(orderPk);
+        return execute(context);
+    }
+
+    private CompletableFuture<OrderResult> execute(OrderSagaContext context) {
+        return sagaEngine.execute(orderSaga, context.getRequest().getOrderId(), context, context.getDeadline())
+                .thenApply(OrderSagaContext::toResult)
+                .handle((result, e) -> {
+                    if (e == null) {
+                        return result;
+                    }
+                    if (Futures.unwrap(e) instanceof DuplicateOrderException) {
+                        // 멱등 캐시에 없는 중복 요청은 저장된 결과가 있으면 그 결과로 응답
+                        Optional<OrderResult> finished = orderStatusService.findFinishedResult(context.getRequest().getOrderId());
+                        if (finished.isPresent()) {
+                            return finished.get();
+                        }
+                    }
+                    // 전체 프로세스 실패 처리
+                    // - 모든 예외를 OrderProcessingException으로 변환하여 전파
+                    log.error("Order processing failed completely", e);
+                    throw new OrderProcessingException("Order processing failed", Futures.unwrap(e));
+                });
     }
-}
\ No newline at end of file
+}
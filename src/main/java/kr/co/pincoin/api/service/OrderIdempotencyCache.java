@@ -0,0 +1,111 @@
+package kr.co.pincoin.api.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import kr.co.pincoin.api.dto.OrderResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 주문번호 기준 멱등 처리
+ * <p>
+ * - 처리 중인 주문과 같은 주문번호의 요청은 새 처리를 시작하지 않고 진행 중인 Future를 공유 (single-flight)
+ * - 성공한 주문의 결과는 capacity개까지 메모리에 보관하여 DB 조회 없이 즉시 응답
+ * - 보관 한도를 넘으면 가장 먼저 완료된 결과부터 제거
+ * - 실패한 주문은 보관하지 않음 (재요청 시 orders.order_id 유일 제약으로 중복 생성 방지)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderIdempotencyCache {
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, CompletableFuture<OrderResult>> entries = new ConcurrentHashMap<>();
+
+    private final Queue<String> completedOrderIds = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger completedCount = new AtomicInteger();
+
+    @Value("${order.idempotency.capacity:10000}")
+    private int capacity;
+
+    private Counter hitCounter;
+
+    private Counter coalescedCounter;
+
+    private Counter missCounter;
+
+    @PostConstruct
+    void registerMetrics() {
+        hitCounter = meterRegistry.counter("order.idempotency.requests", "outcome", "hit");
+        coalescedCounter = meterRegistry.counter("order.idempotency.requests", "outcome", "coalesced");
+        missCounter = meterRegistry.counter("order.idempotency.requests", "outcome", "miss");
+        meterRegistry.gauge("order.idempotency.size", completedCount);
+    }
+
+    /**
+     * 같은 주문번호의 처리가 없을 때만 pipeline을 시작
+     *
+     * @param orderId  주문번호 (null이면 멱등 처리 없이 실행)
+     * @param pipeline 주문 처리를 시작하고 결과 Future를 반환하는 함수
+     * @return 보관된 결과, 진행 중인 처리 또는 새로 시작한 처리의 결과
+     */
+    public CompletableFuture<OrderResult> execute(String orderId, Supplier<CompletableFuture<OrderResult>> pipeline) {
+        if (orderId == null) {
+            return pipeline.get();
+        }
+
+        CompletableFuture<OrderResult> promise = new CompletableFuture<>();
+        CompletableFuture<OrderResult> existing = entries.putIfAbsent(orderId, promise);
+        if (existing != null) {
+            if (existing.isDone()) {
+                hitCounter.increment();
+            } else {
+                coalescedCounter.increment();
+                log.debug("Coalesced duplicate request for order: {}", orderId);
+            }
+            // 호출자가 공유 Future를 완료시키거나 취소하지 못하도록 복사본 반환
+            return existing.copy();
+        }
+
+        missCounter.increment();
+        CompletableFuture<OrderResult> future;
+        try {
+            future = pipeline.get();
+        } catch (Exception e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        future.whenComplete((result, e) -> {
+            if (e == null) {
+                remember(orderId);
+                promise.complete(result);
+            } else {
+                entries.remove(orderId, promise);
+                promise.completeExceptionally(e);
+            }
+        });
+        return promise.copy();
+    }
+
+    private void remember(String orderId) {
+        completedOrderIds.offer(orderId);
+        if (completedCount.incrementAndGet() > capacity) {
+            String eldest = completedOrderIds.poll();
+            if (eldest != null) {
+                entries.remove(eldest);
+                completedCount.decrementAndGet();
+            }
+        }
+    }
+}
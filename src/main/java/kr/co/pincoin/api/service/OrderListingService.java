@@ -0,0 +1,87 @@
+package kr.co.pincoin.api.service;
+
+import kr.co.pincoin.api.dto.KeysetCursor;
+import kr.co.pincoin.api.dto.KeysetPage;
+import kr.co.pincoin.api.dto.OrderSummary;
+import kr.co.pincoin.api.dto.PaymentSummary;
+import kr.co.pincoin.api.enums.OrderStatus;
+import kr.co.pincoin.api.enums.PaymentStatus;
+import kr.co.pincoin.api.repository.OrderRepository;
+import kr.co.pincoin.api.repository.PaymentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 백오피스 주문/결제 목록 조회
+ * <p>
+ * - OFFSET 대신 직전 페이지 마지막 항목의 (시각, 식별자) 이후를 조회하는 키셋 페이지네이션
+ * - 정렬 순서와 같은 복합 인덱스를 범위 검색하므로 페이지 깊이와 관계없이 조회 비용이 일정
+ * - 엔티티 대신 레코드 프로젝션으로 조회하여 영속성 컨텍스트와 2차 캐시를 거치지 않음
+ * - 다음 페이지 유무는 페이지 크기보다 1건 더 조회하여 판단 (COUNT 쿼리 없음)
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderListingService {
+    private final OrderRepository orderRepository;
+
+    private final PaymentRepository paymentRepository;
+
+    @Value("${order.listing.max-page-size:500}")
+    private int maxPageSize;
+
+    /**
+     * 생성 시각 내림차순 주문 목록
+     *
+     * @param status 주문 상태 (null이면 전체)
+     * @param cursor 직전 페이지의 nextCursor (null이면 첫 페이지)
+     * @param size   페이지 크기 (최대 max-page-size)
+     * @throws IllegalArgumentException 형식이 올바르지 않은 커서
+     */
+    @Transactional(readOnly = true)
+    public KeysetPage<OrderSummary> findOrders(OrderStatus status, String cursor, int size) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        int pageSize = pageSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+        List<OrderSummary> rows = status == null
+                ? orderRepository.findSummariesBefore(position.at(), position.id(), limit)
+                : orderRepository.findSummariesByStatusBefore(status, position.at(), position.id(), limit);
+        return page(rows, pageSize, last -> new KeysetCursor(last.createdAt(), last.id()));
+    }
+
+    /**
+     * 처리 시각 내림차순 결제 목록
+     *
+     * @param status 결제 상태 (null이면 전체)
+     * @param cursor 직전 페이지의 nextCursor (null이면 첫 페이지)
+     * @param size   페이지 크기 (최대 max-page-size)
+     * @throws IllegalArgumentException 형식이 올바르지 않은 커서
+     */
+    @Transactional(readOnly = true)
+    public KeysetPage<PaymentSummary> findPayments(PaymentStatus status, String cursor, int size) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        int pageSize = pageSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+        List<PaymentSummary> rows = status == null
+                ? paymentRepository.findSummariesBefore(position.at(), position.id(), limit)
+                : paymentRepository.findSummariesByStatusBefore(status, position.at(), position.id(), limit);
+        return page(rows, pageSize, last -> new KeysetCursor(last.processedAt(), last.id()));
+    }
+
+    private int pageSize(int size) {
+        return Math.clamp(size, 1, maxPageSize);
+    }
+
+    private static <T> KeysetPage<T> page(List<T> rows, int pageSize, Function<T, KeysetCursor> cursorOf) {
+        if (rows.size() <= pageSize) {
+            return new KeysetPage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, pageSize);
+        return new KeysetPage<>(items, cursorOf.apply(items.getLast()).encode());
+    }
+}
@@ -1,25 +1,54 @@
 package kr.co.pincoin.api.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import kr.co.pincoin.api.diagnostics.CompensationEvent;
+import kr.co.pincoin.api.diagnostics.ExternalCallEvent;
+import kr.co.pincoin.api.diagnostics.OrderCreatedEvent;
+import kr.co.pincoin.api.diagnostics.PaymentPersistedEvent;
+import kr.co.pincoin.api.diagnostics.ServerTiming;
 import kr.co.pincoin.api.dto.APIResponse;
+import kr.co.pincoin.api.dto.CancellationRequest;
 import kr.co.pincoin.api.dto.OrderRequest;
+import kr.co.pincoin.api.dto.OrderResult;
+import kr.co.pincoin.api.dto.OrderSagaContext;
 import kr.co.pincoin.api.entity.Order;
+import kr.co.pincoin.api.entity.OutboxEvent;
 import kr.co.pincoin.api.entity.Payment;
+import kr.co.pincoin.api.enums.OrderStep;
+import kr.co.pincoin.api.enums.OutboxEventType;
+import kr.co.pincoin.api.exception.BulkheadFullException;
+import kr.co.pincoin.api.exception.CircuitOpenException;
+import kr.co.pincoin.api.exception.DuplicateOrderException;
 import kr.co.pincoin.api.exception.ExternalAPIException;
 import kr.co.pincoin.api.exception.OrderProcessingException;
 import kr.co.pincoin.api.exception.PaymentProcessingException;
 import kr.co.pincoin.api.external.ExternalAPIClient;
-import kr.co.pincoin.api.external.NotificationAPIClient;
 import kr.co.pincoin.api.logger.TransactionLogger;
 import kr.co.pincoin.api.repository.OrderRepository;
+import kr.co.pincoin.api.repository.OutboxEventRepository;
 import kr.co.pincoin.api.repository.PaymentRepository;
+import kr.co.pincoin.api.resilience.Bulkhead;
+import kr.co.pincoin.api.resilience.CircuitBreaker;
+import kr.co.pincoin.api.resilience.Deadline;
+import kr.co.pincoin.api.resilience.Futures;
+import kr.co.pincoin.api.resilience.Hedger;
+import kr.co.pincoin.api.resilience.Retrier;
+import kr.co.pincoin.api.saga.SagaDefinition;
+import kr.co.pincoin.api.saga.SagaEngine;
+import kr.co.pincoin.api.saga.SagaStep;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletionException;
 
 /**
  * 트랜잭션 스크립트 패턴을 구현한 서비스
@@ -39,129 +68,312 @@ public class OrderProcessingService {
 
     private final ExternalAPIClient externalAPIClient;
 
-    private final NotificationAPIClient notificationAPIClient;
+    private final OutboxEventRepository outboxEventRepository;
 
     private final TransactionLogger transactionLogger;
 
+    private final TransactionTemplate transactionTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    private final SagaEngine sagaEngine;
+
+    private final OrderIdempotencyCache orderIdempotencyCache;
+
+    private final OrderStatusService orderStatusService;
+
+    private final CircuitBreaker externalApiCircuitBreaker;
+
+    private final Bulkhead externalApiBulkhead;
+
+    private final Hedger externalApiHedger;
+
+    private final Retrier externalApiRetrier;
+
+    @Value("${order.deadline.default-timeout:30s}")
+    private Duration defaultTimeout;
+
+    private SagaDefinition<OrderSagaContext> orderSaga;
+
     /**
-     * 트랜잭션 스크립트 패턴의 주문 처리 메소드
+     * 트랜잭션 스크립트 패턴의 주문 처리 사가 정의
+     * 각 단계는 이 클래스의 메소드가 직접 DB와 외부 API를 다루며, 단계 실행/보상/상태 기록은 SagaEngine이 담당
      * <p>
      * [처리 순서와 트랜잭션 규칙]
      * 1. 초기 주문 생성 (DB 트랜잭션)
      * - 주문 정보를 데이터베이스에 저장
+     * - 같은 주문번호가 이미 있으면 DuplicateOrderException
+     * - 보상: 주문 실패 상태 변경
+     * - 복구 시: 식별자를 기록하기 전에 중단되었으면 사가 시작 이후 저장된 같은 주문번호의 주문을 찾아 사용
      * <p>
      * 2. 첫 번째 외부 API 호출 (비동기)
      * - API 호출 및 로깅 수행
-     * - 실패 시: 1번 작업 롤백
-     * - 타임아웃: 30초
+     * - 일시적인 실패는 마감 시각 안에서 재시도
+     * - 실패 시: 1번 작업 무효화
+     * - 타임아웃: 요청의 마감 시각까지 (초과 시 호출 스레드를 인터럽트하고 1번 작업 무효화)
+     * - 보상: 취소 요청을 outbox에 기록 (CompensationRelay가 취소 API 호출)
      * <p>
      * 3. 결제 처리 (DB 트랜잭션)
      * - API 응답 결과를 기반으로 결제 정보 저장
-     * - 실패 시: 2번 작업 취소 API 호출 후 1번 작업 롤백
+     * - 실패 시: 2번 작업 취소 요청 기록 후 1번 작업 무효화
+     * - 남은 마감 시간을 트랜잭션 제한 시간으로 사용
+     * - 복구 시: 결제가 이미 저장되었으면 건너뛰고, 아니면 저장된 API 응답으로 재실행
      * <p>
-     * 4. 알림 발송 (비동기)
-     * - 알림 API 호출 및 로깅
-     * - 실패 시: 이전 작업들 롤백하지 않음 (무시)
+     * 4. 알림 이벤트 기록 (3번과 같은 트랜잭션)
+     * - 결제와 함께 커밋된 경우에만 OutboxRelay가 알림 API 호출 및 로깅
+     * - 발송 실패 시: 이전 작업들 롤백하지 않고 릴레이가 재시도
+     */
+    @PostConstruct
+    void registerOrderSaga() {
+        orderSaga = SagaDefinition.of("transaction-script", OrderSagaContext.class,
+                SagaStep.<OrderSagaContext>builder()
+                        .name(OrderStep.CREATE_ORDER.name())
+                        .action(this::createOrder)
+                        .compensation(this::rollbackInitialOrder)
+                        .completionCheck(this::isInitialOrderCreated)
+                        .failureTranslator(e -> e instanceof DataIntegrityViolationException
+                                ? new DuplicateOrderException("Order already exists", e)
+                                : SagaStep.propagate(e))
+                        .build(),
+                SagaStep.<OrderSagaContext>builder()
+                        .name(OrderStep.EXTERNAL_API.name())
+                        .asyncAction(context -> executeFirstExternalAPICall(context.getRequest(), context.getDeadline())
+                                .thenAccept(context::setApiResponse))
+                        .compensation(context -> compensateFirstExternalAPI(context.getRequest()))
+                        .failureTranslator(e -> new ExternalAPIException("External API call failed, rolling back order", e))
+                        .build(),
+                SagaStep.<OrderSagaContext>builder()
+                        .name(OrderStep.PAYMENT.name())
+                        .action(this::persistPayment)
+                        .completionCheck(context -> paymentRepository.existsByOrderId(context.getRequest().getOrderId()))
+                        .resumable(true)
+                        .failureTranslator(e -> new PaymentProcessingException("Payment failed, rolled back previous operations", e))
+                        .build());
+        sagaEngine.register(orderSaga);
+    }
+
+    /**
+     * 트랜잭션 스크립트 패턴의 주문 처리 메소드
+     * 비동기 사가의 완료를 기다리는 동기 진입점 (마감 시각은 order.deadline.default-timeout)
      * <p>
      * [트랜잭션 특징]
      * - 전체 프로세스(1~4)는 하나의 원자적 단위로 처리
+     * - 1번과 3번(+4번 알림 이벤트)은 TransactionTemplate으로 각각 짧은 트랜잭션을 수행
+     * - 외부 API 호출 동안에는 DB 커넥션과 트랜잭션을 점유하지 않음
      * - 계층적 롤백 처리:
      * - 4번 실패: 롤백 없음
-     * - 3번 실패: 2번 보상 트랜잭션 수행 + 1번 롤백
-     * - 2번 실패: 1번 롤백
+     * - 3번 실패: 2번 보상 트랜잭션 수행 + 1번 무효화(주문 실패 상태 변경)
+     * - 2번 실패: 1번 무효화(주문 실패 상태 변경)
      * - 1번 실패: 즉시 종료
+     * - 각 단계 전이는 saga_states에 기록되어 프로세스가 중단되어도 재시작 시 복구됨
      *
      * @param request 주문 요청 정보
-     * @throws OrderProcessingException   주문 처리 실패 시
-     * @throws ExternalAPIException       외부 API 호출 실패 시
-     * @throws PaymentProcessingException 결제 처리 실패 시
+     * @throws OrderProcessingException 주문 처리 실패 시 (원인으로 ExternalAPIException 또는 PaymentProcessingException)
      */
-    @Transactional(propagation = Propagation.REQUIRED)
     public void processOrder(OrderRequest request) {
         try {
-            // Step 1: 주문 정보 DB 저장
-            // - 실패 시 OrderProcessingException 발생하여 전체 프로세스 중단
-            createInitialOrder(request);
-
-            try {
-                // Step 2: 첫 번째 외부 API 비동기 호출
-                // - CompletableFuture를 사용하여 비동기 처리
-                // - 30초 타임아웃 설정으로 무한 대기 방지
-                CompletableFuture<APIResponse> apiResponseFuture = executeFirstExternalAPICall(request);
-                APIResponse apiResponse = apiResponseFuture.get(30, TimeUnit.SECONDS);
-
-                try {
-                    // Step 3: API 응답을 기반으로 결제 정보 처리
-                    // - 외부 API 응답 결과를 DB에 저장
-                    processPaymentWithAPIResponse(request, apiResponse);
-
-                    // Step 4: 알림 발송을 위한 두 번째 외부 API 호출
-                    // - 비동기 처리이며 실패해도 이전 단계 롤백하지 않음
-                    executeSecondExternalAPICall(request);
-
-                } catch (Exception e) {
-                    // Step 3 실패 시 보상 트랜잭션
-                    // 1. 로그 기록
-                    // 2. 첫 번째 API 취소 호출
-                    // 3. DB 트랜잭션 롤백
-                    log.error("Payment processing failed. Initiating compensation.", e);
-                    compensateFirstExternalAPI(request);
-                    throw new PaymentProcessingException("Payment failed, rolled back previous operations", e);
-                }
-            } catch (Exception e) {
-                // Step 2 실패 처리
-                // - PaymentProcessingException의 경우 상위로 전파 (Step 3 실패)
-                // - 그 외 예외는 ExternalAPIException으로 변환하여 전파
-                if (e instanceof PaymentProcessingException) {
-                    throw e;
-                }
-                log.error("First external API call failed.", e);
-                throw new ExternalAPIException("External API call failed, rolling back order", e);
+            processOrderAsync(request, Deadline.after(defaultTimeout)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof OrderProcessingException orderProcessingException) {
+                throw orderProcessingException;
             }
-        } catch (Exception e) {
-            // 전체 프로세스 실패 처리
-            // - 모든 예외를 OrderProcessingException으로 감싸서 전파
-            log.error("Order processing failed completely", e);
-            throw new OrderProcessingException("Order processing failed", e);
+            throw new OrderProcessingException("Order processing failed", Futures.unwrap(e));
         }
     }
 
     /**
-     * 초기 주문 정보를 생성하고 데이터베이스에 저장
-     * 트랜잭션의 첫 번째 단계를 담당
+     * 트랜잭션 스크립트 패턴의 비동기 주문 처리 메소드
+     * 요청 스레드를 점유하지 않고 사가 엔진이 1~4단계를 CompletableFuture 체인으로 연결
+     * 같은 주문번호의 중복 요청은 OrderIdempotencyCache가 진행 중이거나 완료된 결과를 공유
+     * 외부 API 서킷이 열려 있거나 벌크헤드가 가득 차 있으면 사가를 시작하지 않고 즉시 실패
      *
-     * @param request 주문 요청 정보
-     * @throws RuntimeException 주문 생성 실패 시 (JPA 저장 실패 등)
+     * @param request  주문 요청 정보
+     * @param deadline 처리 마감 시각 (지나면 남은 단계를 시작하지 않고 보상 후 실패)
+     * @return 주문 처리 결과를 담은 Future, 실패 시 OrderProcessingException으로 완료
      */
-    private void createInitialOrder(OrderRequest request) {
+    public CompletableFuture<OrderResult> processOrderAsync(OrderRequest request, Deadline deadline) {
+        return processOrderAsync(request, deadline, ServerTiming.disabled());
+    }
+
+    /**
+     * 단계별 소요 시간을 serverTiming에 기록하며 비동기 주문 처리
+     *
+     * @param request      주문 요청 정보
+     * @param deadline     처리 마감 시각
+     * @param serverTiming 단계별 소요 시간을 모을 문맥
+     * @return 주문 처리 결과를 담은 Future, 실패 시 OrderProcessingException으로 완료
+     */
+    public CompletableFuture<OrderResult> processOrderAsync(OrderRequest request, Deadline deadline,
+                                                            ServerTiming serverTiming) {
+        return orderIdempotencyCache.execute(request.getOrderId(), () -> {
+            // 외부 API를 호출할 수 없으면 주문을 저장하지 않고 즉시 거부
+            if (!externalApiCircuitBreaker.isCallPermitted()) {
+                return CompletableFuture.failedFuture(new OrderProcessingException("Order processing failed",
+                        new CircuitOpenException("External API circuit is open")));
+            }
+            if (!externalApiBulkhead.hasCapacity()) {
+                return CompletableFuture.failedFuture(new OrderProcessingException("Order processing failed",
+                        new BulkheadFullException("External API bulkhead is full")));
+            }
+            return execute(OrderSagaContext.of(request, deadline, serverTiming));
+        });
+    }
+
+    private CompletableFuture<OrderResult> execute(OrderSagaContext context) {
+        return sagaEngine.execute(orderSaga, context.getRequest().getOrderId(), context, context.getDeadline())
+                .thenApply(OrderSagaContext::toResult)
+                .handle((result, e) -> {
+                    if (e == null) {
+                        return result;
+                    }
+                    if (Futures.unwrap(e) instanceof DuplicateOrderException) {
+                        // 멱등 캐시에 없는 중복 요청은 저장된 결과가 있으면 그 결과로 응답
+                        Optional<OrderResult> finished = orderStatusService.findFinishedResult(context.getRequest().getOrderId());
+                        if (finished.isPresent()) {
+                            return finished.get();
+                        }
+                    }
+                    // 전체 프로세스 실패 처리
+                    // - 모든 예외를 OrderProcessingException으로 감싸서 전파
+                    log.error("Order processing failed completely", e);
+                    throw new OrderProcessingException("Order processing failed", Futures.unwrap(e));
+                });
+    }
+
+    /**
+     * 1번 단계: 짧은 트랜잭션으로 초기 주문을 저장하고 식별자를 문맥에 기록
+     * JFR 녹화 중이면 OrderCreatedEvent로 소요 시간을 남김
+     */
+    private void createOrder(OrderSagaContext context) {
+        OrderCreatedEvent event = OrderCreatedEvent.start();
+        boolean success = false;
+        try {
+            context.setOrderPk(transactionTemplate.execute(status -> createInitialOrder(context.getRequest())).getId());
+            success = true;
+        } finally {
+            event.finish(context.getRequest().getOrderId(), success);
+        }
+    }
+
+    /**
+     * 3번, 4번 단계: 결제 정보와 알림 이벤트를 같은 트랜잭션에 기록
+     * 남은 마감 시간을 트랜잭션 제한 시간으로 사용하며, JFR 녹화 중이면 PaymentPersistedEvent로 커밋까지의 시간을 남김
+     */
+    private void persistPayment(OrderSagaContext context) {
+        PaymentPersistedEvent event = PaymentPersistedEvent.start();
+        boolean success = false;
+        try {
+            context.getDeadline().bound(transactionTemplate, OrderStep.PAYMENT.name())
+                    .executeWithoutResult(status -> {
+                        processPaymentWithAPIResponse(context.getRequest(), context.getApiResponse());
+                        enqueueNotification(context.getRequest());
+                    });
+            success = true;
+        } finally {
+            event.finish(context.getRequest().getOrderId(), success);
+        }
+    }
+
+    private Order createInitialOrder(OrderRequest request) {
         // OrderRequest를 Order 엔티티로 변환
         Order order = Order.from(request);
 
         // 데이터베이스에 주문 정보 저장
         orderRepository.save(order);
+        orderStatusService.evictAfterCommit(order.getOrderId());
 
         // 주문 생성 완료 로그 기록
         log.info("Initial order created: {}", order.getId());
+
+        return order;
+    }
+
+    /**
+     * 1번 단계 완료 확인: 문맥에 식별자가 없으면 사가 시작 이후 저장된 같은 주문번호의 주문을 찾아 문맥에 기록
+     * (주문 저장은 커밋되었지만 다음 전이를 기록하기 전에 중단된 경우)
+     *
+     * @param context 주문 사가 문맥
+     * @return 초기 주문이 저장되었는지 여부
+     */
+    private boolean isInitialOrderCreated(OrderSagaContext context) {
+        if (context.getOrderPk() == null && context.getStartedAt() != null) {
+            orderRepository.findByOrderIdAndCreatedAtGreaterThanEqual(
+                            context.getRequest().getOrderId(), context.getStartedAt())
+                    .ifPresent(order -> context.setOrderPk(order.getId()));
+        }
+        return context.getOrderPk() != null;
+    }
+
+    /**
+     * 이미 커밋된 초기 주문을 실패 상태로 변경하는 보상 처리
+     * 단계별 트랜잭션이 분리되어 있으므로 1번 작업 롤백을 대신함
+     *
+     * @param context 주문 사가 문맥 (주문 저장 전 중단된 경우 아무것도 하지 않음)
+     */
+    private void rollbackInitialOrder(OrderSagaContext context) {
+        if (!isInitialOrderCreated(context)) {
+            return;
+        }
+        String orderId = context.getRequest().getOrderId();
+        Long orderPk = context.getOrderPk();
+
+        CompensationEvent event = CompensationEvent.start(OrderStep.CREATE_ORDER.name());
+        boolean success = false;
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    orderRepository.findById(orderPk).ifPresent(order -> {
+                        order.fail();
+                        orderStatusService.evictAfterCommit(orderId);
+                    }));
+            success = true;
+        } finally {
+            event.finish(orderId, success);
+        }
+
+        log.info("Initial order marked as failed: {}", orderPk);
     }
 
     /**
      * 첫 번째 외부 API를 비동기적으로 호출하고 결과를 반환
      * 트랜잭션의 두 번째 단계를 담당
      *
-     * @param request 주문 요청 정보
+     * @param request  주문 요청 정보
+     * @param deadline 처리 마감 시각
      * @return CompletableFuture<APIResponse> API 호출 결과를 포함한 Future 객체
      */
-    private CompletableFuture<APIResponse> executeFirstExternalAPICall(OrderRequest request) {
-        // supplyAsync를 사용하여 비동기 작업 실행
-        return CompletableFuture.supplyAsync(() -> {
-            // 외부 API 비동기 호출 수행
-            APIResponse response = externalAPIClient.processAsync(request);
+    private CompletableFuture<APIResponse> executeFirstExternalAPICall(OrderRequest request, Deadline deadline) {
+        // 외부 API 전용 벌크헤드에서 비동기 작업 실행
+        // - 벌크헤드가 가득 찼거나 서킷이 열려 있으면 즉시 실패
+        // - 응답이 늦으면 헤지 호출을 추가하고, 나중에 도착한 승인은 취소 요청을 outbox에 기록
+        // - 일시적인 실패는 재시도 예산과 마감 시각 안에서 재시도
+        CompletableFuture<APIResponse> call = externalApiRetrier.execute(() -> externalApiHedger.execute(
+                () -> externalApiCircuitBreaker.execute(() -> callExternalAPI(request)),
+                loser -> enqueueCancellation(request, loser.getReferenceId())), deadline);
 
-            // API 호출 결과 로깅 (감사 추적을 위한 기록)
-            transactionLogger.logTransaction("First External API call", request);
+        // 마감 시각까지 응답이 없으면 호출 스레드를 인터럽트하고 실패 (취소된 호출은 로그를 남기지 않음)
+        return deadline.bound(call, "external API call")
+                .thenApply(response -> {
+                    // API 호출 결과 로깅 (감사 추적을 위한 기록)
+                    transactionLogger.logTransaction("First External API call", request);
 
+                    return response;
+                });
+    }
+
+    /**
+     * 외부 API 승인 호출 한 번 (헤지 요청과 재시도는 각각 호출)
+     * JFR 녹화 중이면 ExternalCallEvent로 소요 시간을 남김
+     */
+    private APIResponse callExternalAPI(OrderRequest request) {
+        ExternalCallEvent event = ExternalCallEvent.start(ExternalCallEvent.PROCESS);
+        boolean success = false;
+        try {
+            APIResponse response = externalAPIClient.processAsync(request);
+            success = true;
             return response;
-        });
+        } finally {
+            event.finish(request.getOrderId(), success);
+        }
     }
 
     /**
@@ -178,55 +390,65 @@ public class OrderProcessingService {
 
         // 결제 정보를 데이터베이스에 저장
         paymentRepository.save(payment);
+        orderStatusService.evictAfterCommit(request.getOrderId());
 
         // 결제 처리 완료 로그 기록
         log.info("Payment processed with external reference: {}", apiResponse.getReferenceId());
     }
 
     /**
-     * 알림 발송을 위한 두 번째 외부 API를 비동기적으로 호출
-     * 트랜잭션의 네 번째 단계를 담당
-     * 실패 시에도 이전 트랜잭션에 영향을 주지 않음
+     * 알림 발송을 위한 이벤트를 outbox에 기록
+     * 트랜잭션의 네 번째 단계를 담당하며, 결제 정보와 같은 트랜잭션에서 커밋됨
+     * 실제 알림 API 호출은 OutboxRelay가 커밋 이후 수행하므로 롤백된 주문은 알림이 발송되지 않음
      *
      * @param request 주문 요청 정보
      */
-    private void executeSecondExternalAPICall(OrderRequest request) {
+    private void enqueueNotification(OrderRequest request) {
         try {
-            // runAsync를 사용하여 반환값이 없는 비동기 작업 실행
-            CompletableFuture.runAsync(() -> {
-                // 알림 API 호출
-                notificationAPIClient.notify(request);
-
-                // API 호출 결과 로깅 (감사 추적)
-                transactionLogger.logTransaction("Second External API call (Notification)", request);
-            });
-        } catch (Exception e) {
-            // 알림 발송 실패는 전체 트랜잭션에 영향을 주지 않음
-            // 실패 로그만 기록하고 계속 진행
-            log.error("Notification API call failed but continuing", e);
+            // 알림 이벤트를 결제 정보와 같은 트랜잭션에 기록
+            outboxEventRepository.save(OutboxEvent.of(OutboxEventType.ORDER_NOTIFICATION,
+                    request.getOrderId(), objectMapper.writeValueAsString(request)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Notification payload is not serializable", e);
         }
     }
 
     /**
      * 첫 번째 API 호출에 대한 보상 트랜잭션 수행
-     * 결제 처리 실패 시 호출되어 이전 API 요청을 취소
+     * 결제 처리 실패 시 호출되어 이전 API 요청의 취소를 outbox에 기록
+     * 취소 API 응답을 기다리지 않으므로 실패 응답이 바로 반환되며, 실제 취소는 CompensationRelay가 재시도와 함께 수행
      *
      * @param request 주문 요청 정보
      */
     private void compensateFirstExternalAPI(OrderRequest request) {
+        CompensationEvent event = CompensationEvent.start(OrderStep.EXTERNAL_API.name());
+        boolean success = false;
+        try {
+            enqueueCancellation(request, null);
+            success = true;
+        } finally {
+            event.finish(request.getOrderId(), success);
+        }
+
+        // 보상 트랜잭션 기록 완료 로그
+        log.info("Compensation enqueued for order: {}", request.getOrderId());
+    }
+
+    /**
+     * 외부 API 취소 요청을 짧은 트랜잭션으로 outbox에 기록 (실제 취소는 CompensationRelay가 수행)
+     * 헤지 요청에서 나중에 도착한 승인이나 호출자가 포기한 뒤 도착한 승인은 referenceId로 그 승인만 취소
+     *
+     * @param request     주문 요청 정보
+     * @param referenceId 취소할 승인의 참조번호 (null이면 주문의 승인을 취소)
+     */
+    private void enqueueCancellation(OrderRequest request, String referenceId) {
         try {
-            // 첫 번째 API 호출에 대한 취소 요청 전송
-            externalAPIClient.cancelAsync(request);
-
-            // 보상 트랜잭션 로깅 (감사 추적)
-            transactionLogger.logTransaction("Compensation - First API cancellation", request);
-
-            // 보상 트랜잭션 완료 로그 기록
-            log.info("Compensation completed for order: {}", request.getOrderId());
-        } catch (Exception e) {
-            // 보상 트랜잭션 실패 시에도 메인 트랜잭션은 롤백 진행
-            // 운영팀 모니터링을 위한 에러 로그 기록
-            log.error("Compensation failed but continuing with rollback", e);
+            // 취소에 필요한 주문번호와 금액만 기록 (고객 정보는 dead letter로 남기지 않음)
+            String payload = objectMapper.writeValueAsString(CancellationRequest.of(request, referenceId));
+            transactionTemplate.executeWithoutResult(status -> outboxEventRepository.save(
+                    OutboxEvent.of(OutboxEventType.EXTERNAL_API_CANCELLATION, request.getOrderId(), payload)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cancellation payload is not serializable", e);
         }
     }
 }
@@ -9,16 +9,67 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class OrderService {
     private final OrderRepository orderRepository;
 
+    private final OrderStatusService orderStatusService;
+
     @Transactional(propagation = Propagation.REQUIRED)
-    public void createOrder(OrderRequest request) {
+    public Order createOrder(OrderRequest request) {
         Order order = Order.from(request);
         orderRepository.save(order);
+        orderStatusService.evictAfterCommit(order.getOrderId());
         log.info("Order created: {}", order.getId());
+        return order;
+    }
+
+    /**
+     * 여러 주문을 한 트랜잭션으로 저장
+     * 시퀀스 식별자를 사용하므로 INSERT는 JDBC 배치로 전송됨
+     *
+     * @param requests 주문 요청 목록
+     * @return 요청 순서와 같은 순서의 저장된 주문 목록
+     */
+    @Transactional(propagation = Propagation.REQUIRED)
+    public List<Order> createOrders(List<OrderRequest> requests) {
+        List<Order> orders = orderRepository.saveAll(requests.stream().map(Order::from).toList());
+        orders.forEach(order -> orderStatusService.evictAfterCommit(order.getOrderId()));
+        log.info("Orders created: {}", orders.size());
+        return orders;
+    }
+
+    /**
+     * 주문번호로 since 이후 저장된 주문의 식별자 조회
+     * 주문 저장이 커밋된 뒤 사가 문맥에 식별자를 기록하기 전에 중단된 경우 복구 시 주문을 찾는 용도
+     *
+     * @param orderId 주문번호
+     * @param since   사가 시작 시각 (이전에 같은 주문번호로 저장된 다른 요청의 주문은 제외)
+     * @return 주문 엔티티 식별자, 없으면 빈 값
+     */
+    @Transactional(readOnly = true)
+    public Optional<Long> findOrderPkCreatedSince(String orderId, LocalDateTime since) {
+        return orderRepository.findByOrderIdAndCreatedAtGreaterThanEqual(orderId, since).map(Order::getId);
+    }
+
+    /**
+     * 이미 커밋된 주문을 실패 상태로 변경하는 보상 처리
+     * 단계별 트랜잭션이 분리되어 있으므로 DB 롤백 대신 상태 변경으로 주문을 무효화
+     *
+     * @param id 주문 엔티티 식별자
+     */
+    @Transactional(propagation = Propagation.REQUIRED)
+    public void failOrder(Long id) {
+        orderRepository.findById(id).ifPresent(order -> {
+            order.fail();
+            orderStatusService.evictAfterCommit(order.getOrderId());
+        });
+        log.info("Order marked as failed: {}", id);
     }
 }
@@ -0,0 +1,138 @@
+package kr.co.pincoin.api.service;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import kr.co.pincoin.api.dto.OrderResult;
+import kr.co.pincoin.api.dto.OrderStatusResponse;
+import kr.co.pincoin.api.enums.OrderStatus;
+import kr.co.pincoin.api.repository.OrderRepository;
+import kr.co.pincoin.api.repository.PaymentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+/**
+ * 주문번호로 주문과 결제 상태를 조회하는 read-through 캐시
+ * <p>
+ * - 캐시에 없으면 orders.order_id, payments.order_id 인덱스로 조회하여 저장 (없는 주문도 저장하여 반복 조회를 막음)
+ * - 최대 capacity건, 저장 후 ttl이 지나면 제거
+ * - 같은 주문번호의 동시 조회는 한 번만 DB를 조회하고 결과를 공유
+ * - DB 조회는 asyncExecutor에서 실행하므로 캐시 내부 잠금을 잡은 채 JDBC 호출을 기다리지 않음 (가상 스레드 고정 방지)
+ * <p>
+ * [무효화]
+ * 주문/결제를 저장하거나 변경하는 쪽에서 evictAfterCommit을 호출하면 트랜잭션 커밋 이후 캐시에서 제거
+ * - 커밋 전에 제거하면 그 사이 시작된 조회가 커밋 전 상태를 다시 캐시에 저장할 수 있음
+ * - 제거 시점에 진행 중인 조회의 결과는 캐시에 저장되지 않음
+ * <p>
+ * 적중률과 크기는 cache.gets, cache.size 등(cache=order.status 태그) 지표로 노출
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderStatusService {
+    private static final String CACHE_NAME = "order.status";
+
+    private final OrderRepository orderRepository;
+
+    private final PaymentRepository paymentRepository;
+
+    private final Executor asyncExecutor;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${order.status-cache.capacity:10000}")
+    private long capacity;
+
+    @Value("${order.status-cache.ttl:30s}")
+    private Duration ttl;
+
+    private AsyncLoadingCache<String, Optional<OrderStatusResponse>> cache;
+
+    @PostConstruct
+    void initializeCache() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(capacity)
+                .expireAfterWrite(ttl)
+                .executor(asyncExecutor)
+                .recordStats()
+                .buildAsync(this::load);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 주문과 결제 상태 조회 (캐시에 있으면 DB 조회 없이 반환)
+     *
+     * @param orderId 주문번호
+     * @return 주문과 결제 상태, 주문이 없으면 빈 값
+     */
+    public Optional<OrderStatusResponse> findOrderStatus(String orderId) {
+        return cache.get(orderId).join();
+    }
+
+    /**
+     * 이미 저장된 주문의 처리 결과 (같은 주문번호의 요청이 주문 저장에서 중복으로 실패했을 때 저장된 결과로 응답)
+     * 멱등 캐시에서 제거되었거나 재시작 이후의 중복 요청이므로 캐시를 거치지 않고 DB에서 조회
+     * <p>
+     * - 결제가 저장된 주문: 완료 결과 (승인 참조번호와 결제 처리 시각)
+     * - 실패 처리된 주문: 실패 결과 (같은 주문번호로 다시 처리하지 않으므로 새 주문번호로 요청해야 함)
+     * - 처리 중이거나 복구를 기다리는 주문: 빈 값 (중복 요청으로 거부)
+     *
+     * @param orderId 주문번호
+     * @return 완료 또는 실패로 끝난 주문의 결과
+     */
+    public Optional<OrderResult> findFinishedResult(String orderId) {
+        return load(orderId).flatMap(status -> {
+            if (status.getPaymentStatus() != null) {
+                return Optional.of(OrderResult.builder()
+                        .orderId(orderId)
+                        .status(OrderStatus.COMPLETED)
+                        .referenceId(status.getExternalReference())
+                        .processedAt(status.getPaymentProcessedAt())
+                        .build());
+            }
+            if (status.getStatus() == OrderStatus.FAILED) {
+                return Optional.of(OrderResult.failed(orderId, "Order already failed, retry with a new orderId"));
+            }
+            return Optional.empty();
+        });
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 주문 상태를 캐시에서 제거 (트랜잭션 밖이면 바로 제거)
+     *
+     * @param orderId 저장하거나 변경한 주문의 주문번호
+     */
+    public void evictAfterCommit(String orderId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(orderId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(orderId);
+            }
+        });
+    }
+
+    private void evict(String orderId) {
+        cache.synchronous().invalidate(orderId);
+    }
+
+    private Optional<OrderStatusResponse> load(String orderId) {
+        log.debug("Order status cache miss: {}", orderId);
+        return orderRepository.findByOrderId(orderId)
+                .map(order -> OrderStatusResponse.from(order,
+                        paymentRepository.findFirstByOrderIdOrderByIdDesc(orderId).orElse(null)));
+    }
+}
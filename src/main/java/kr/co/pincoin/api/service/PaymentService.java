@@ -16,10 +16,18 @@ import org.springframework.transaction.annotation.Transactional;
 public class PaymentService {
     private final PaymentRepository paymentRepository;
 
+    private final OrderStatusService orderStatusService;
+
     @Transactional(propagation = Propagation.REQUIRED)
     public void processPayment(OrderRequest request, APIResponse apiResponse) {
         Payment payment = Payment.from(request, apiResponse);
         paymentRepository.save(payment);
+        orderStatusService.evictAfterCommit(payment.getOrderId());
         log.info("Payment processed: {}", payment.getId());
     }
+
+    @Transactional(readOnly = true)
+    public boolean isPaymentProcessed(String orderId) {
+        return paymentRepository.existsByOrderId(orderId);
+    }
 }
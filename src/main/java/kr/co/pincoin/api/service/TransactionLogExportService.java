@@ -0,0 +1,80 @@
+package kr.co.pincoin.api.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import kr.co.pincoin.api.entity.TransactionLog;
+import kr.co.pincoin.api.repository.TransactionLogRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 감사용 transaction_logs 내보내기
+ * <p>
+ * - 읽기 전용 트랜잭션 안에서 커서(fetch size 1000)로 한 행씩 읽어 바로 NDJSON 한 줄로 기록
+ * - 기록한 행은 영속성 컨텍스트에서 분리하므로 내보내는 행 수와 관계없이 힙 사용량이 일정
+ * - 응답 스트림에 직접 기록하므로 전체 결과를 메모리에 모으지 않음 (압축 여부는 호출자가 결정)
+ * - 내보내는 동안 커넥션 하나를 점유함
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TransactionLogExportService {
+    private final TransactionLogRepository transactionLogRepository;
+
+    private final EntityManager entityManager;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 조건에 맞는 트랜잭션 로그를 식별자 순으로 NDJSON으로 기록
+     *
+     * @param orderId 주문번호 (null이면 전체)
+     * @param action  작업 이름 (null이면 전체)
+     * @param from    이 시각 이후 기록 (포함, null이면 제한 없음)
+     * @param to      이 시각 이전 기록 (미포함, null이면 제한 없음)
+     * @param out     기록할 스트림 (닫지 않음)
+     * @return 기록한 행 수
+     * @throws IOException 스트림 기록 실패 (클라이언트 연결 종료 등)
+     */
+    @Transactional(readOnly = true)
+    public long export(String orderId, String action, LocalDateTime from, LocalDateTime to,
+                       OutputStream out) throws IOException {
+        long count = 0;
+        try (Stream<TransactionLog> logs = transactionLogRepository.streamForExport(orderId, action, from, to);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+            // 값 사이에 기본 구분자(공백)를 넣지 않고 줄마다 줄바꿈으로 끝냄
+            generator.setRootValueSeparator(null);
+            Iterator<TransactionLog> iterator = logs.iterator();
+            while (iterator.hasNext()) {
+                TransactionLog transactionLog = iterator.next();
+                writeLine(generator, transactionLog);
+                entityManager.detach(transactionLog);
+                count++;
+            }
+        }
+        log.info("Exported {} transaction logs", count);
+        return count;
+    }
+
+    private static void writeLine(JsonGenerator generator, TransactionLog transactionLog) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", transactionLog.getId());
+        generator.writeStringField("orderId", transactionLog.getOrderId());
+        generator.writeStringField("action", transactionLog.getAction());
+        generator.writeStringField("details", transactionLog.getDetails());
+        generator.writeStringField("timestamp",
+                transactionLog.getTimestamp() == null ? null : transactionLog.getTimestamp().toString());
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+}
@@ -0,0 +1,53 @@
+package kr.co.pincoin.api.dto;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTests {
+	@Test
+	void decodesEncodedCursor() {
+		KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2024, 5, 1, 12, 30, 15, 123_456_000), 42L);
+
+		String encoded = cursor.encode();
+
+		assertThat(encoded).doesNotContain("=", "+", "/");
+		assertThat(KeysetCursor.decode(encoded)).isEqualTo(cursor);
+	}
+
+	@Test
+	void decodesFirstPageCursor() {
+		assertThat(KeysetCursor.decode(KeysetCursor.FIRST.encode())).isEqualTo(KeysetCursor.FIRST);
+	}
+
+	@Test
+	void startsFromFirstPageWithoutCursor() {
+		assertThat(KeysetCursor.decode(null)).isEqualTo(KeysetCursor.FIRST);
+		assertThat(KeysetCursor.decode(" ")).isEqualTo(KeysetCursor.FIRST);
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"not base64!", "2024-05-01T12:30|42"})
+	void rejectsCursorThatIsNotBase64(String cursor) {
+		assertThatThrownBy(() -> KeysetCursor.decode(cursor))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageStartingWith("Invalid cursor");
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"2024-05-01T12:30", "yesterday|42", "2024-05-01T12:30|x", "|42"})
+	void rejectsCursorWithMalformedPosition(String position) {
+		String cursor = Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+
+		assertThatThrownBy(() -> KeysetCursor.decode(cursor))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageStartingWith("Invalid cursor");
+	}
+}
@@ -0,0 +1,118 @@
+package kr.co.pincoin.api.logger;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.co.pincoin.api.repository.TransactionLogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TransactionLogRetentionJobTests {
+	private static final int BATCH_SIZE = 2;
+
+	private static final int RETENTION_DAYS = 30;
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final TransactionLogRepository logRepository = mock(TransactionLogRepository.class);
+
+	private final TransactionLogger transactionLogger = mock(TransactionLogger.class);
+
+	private final TransactionLogRetentionJob retentionJob = new TransactionLogRetentionJob(logRepository,
+			transactionLogger, new DirectTransactionTemplate(), meterRegistry);
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(retentionJob, "retentionDays", RETENTION_DAYS);
+		ReflectionTestUtils.setField(retentionJob, "batchSize", BATCH_SIZE);
+		ReflectionTestUtils.setField(retentionJob, "pauseMs", 0L);
+		ReflectionTestUtils.setField(retentionJob, "maxRunMs", 60_000L);
+		retentionJob.registerMetrics();
+	}
+
+	@Test
+	void deletesExpiredLogsInBatchesUntilNoneRemain() {
+		LocalDate cutoff = LocalDate.now().minusDays(RETENTION_DAYS);
+		when(logRepository.findIdsByBucketBefore(cutoff, Limit.of(BATCH_SIZE)))
+				.thenReturn(List.of(1L, 2L), List.of(3L, 4L), List.of(5L));
+
+		retentionJob.purge();
+
+		verify(logRepository, times(3)).findIdsByBucketBefore(cutoff, Limit.of(BATCH_SIZE));
+		verify(logRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+		verify(logRepository).deleteAllByIdInBatch(List.of(3L, 4L));
+		verify(logRepository).deleteAllByIdInBatch(List.of(5L));
+		assertThat(purged()).isEqualTo(5);
+		assertThat(meterRegistry.get("transaction.logger.retention.batch").timer().count()).isEqualTo(3);
+		InOrder purgeWindow = inOrder(transactionLogger, logRepository);
+		purgeWindow.verify(transactionLogger).setPurgeRunning(true);
+		purgeWindow.verify(logRepository).deleteAllByIdInBatch(List.of(5L));
+		purgeWindow.verify(transactionLogger).setPurgeRunning(false);
+	}
+
+	@Test
+	void doesNotDeleteWhenNoLogsAreExpired() {
+		when(logRepository.findIdsByBucketBefore(any(), any())).thenReturn(List.of());
+
+		retentionJob.purge();
+
+		verify(logRepository, never()).deleteAllByIdInBatch(anyList());
+		assertThat(purged()).isZero();
+		assertThat(meterRegistry.get("transaction.logger.retention.rate").gauge().value()).isZero();
+	}
+
+	@Test
+	void stopsAtMaxRunAndContinuesOnNextRun() {
+		ReflectionTestUtils.setField(retentionJob, "pauseMs", 10L);
+		ReflectionTestUtils.setField(retentionJob, "maxRunMs", 50L);
+		// 만료 로그가 끝없이 남아 있는 경우
+		AtomicLong nextId = new AtomicLong();
+		when(logRepository.findIdsByBucketBefore(any(), any())).thenAnswer(invocation ->
+				LongStream.range(0, BATCH_SIZE).mapToObj(i -> nextId.incrementAndGet()).toList());
+
+		long startedAt = System.nanoTime();
+		retentionJob.purge();
+		long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+
+		double firstRun = purged();
+		assertThat(firstRun).isGreaterThan(0).isEqualTo(nextId.get());
+		assertThat(elapsedMs).isLessThan(1_000);
+		assertThat(meterRegistry.get("transaction.logger.retention.rate").gauge().value()).isGreaterThan(0);
+
+		retentionJob.purge();
+
+		assertThat(purged()).isGreaterThan(firstRun);
+	}
+
+	private double purged() {
+		return meterRegistry.get("transaction.logger.retention.purged").counter().count();
+	}
+
+	/**
+	 * 트랜잭션 없이 콜백만 실행
+	 */
+	private static class DirectTransactionTemplate extends TransactionTemplate {
+		@Override
+		public <T> T execute(TransactionCallback<T> action) {
+			return action.doInTransaction(null);
+		}
+	}
+}
@@ -0,0 +1,264 @@
+package kr.co.pincoin.api.logger;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.co.pincoin.api.dto.OrderRequest;
+import kr.co.pincoin.api.entity.TransactionLog;
+import kr.co.pincoin.api.enums.OverflowPolicy;
+import kr.co.pincoin.api.repository.TransactionLogRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TransactionLoggerTests {
+	private static final int CAPACITY = 2;
+
+	private static final int UNBLOCKED = 1_000_000;
+
+	@TempDir
+	private Path directory;
+
+	private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final TransactionLogRepository logRepository = mock(TransactionLogRepository.class);
+
+	// 저장된 로그의 주문번호 (저장 순서)
+	private final List<String> saved = Collections.synchronizedList(new ArrayList<>());
+
+	// 저장 호출마다 하나씩 소모하는 허가 (허가가 없으면 저장이 대기하여 큐가 차도록 함)
+	private final Semaphore flushPermits = new Semaphore(UNBLOCKED);
+
+	private final CountDownLatch flushStarted = new CountDownLatch(1);
+
+	private final AtomicInteger flushes = new AtomicInteger();
+
+	// 실패시킬 저장 호출 순번 (1부터)
+	private volatile int failingFlush;
+
+	private TransactionLogger transactionLogger;
+
+	@AfterEach
+	void stop() throws InterruptedException {
+		releaseFlushes();
+		if (transactionLogger != null) {
+			transactionLogger.stop();
+		}
+	}
+
+	@Test
+	void dropsLogsWhenQueueIsFullWithDropPolicy() throws Exception {
+		start(OverflowPolicy.DROP, 1);
+		fillQueueWhileFlushIsBlocked();
+
+		transactionLogger.logTransaction("test", request("dropped"));
+
+		assertThat(count("dropped")).isEqualTo(1);
+		releaseFlushes();
+		awaitTrue(() -> saved.size() == 1 + CAPACITY);
+		assertThat(saved).doesNotContain("dropped");
+	}
+
+	@Test
+	void blocksCallerUntilQueueHasSpaceWithBlockPolicy() throws Exception {
+		start(OverflowPolicy.BLOCK, 1);
+		fillQueueWhileFlushIsBlocked();
+
+		Thread caller = Thread.ofPlatform().start(() -> transactionLogger.logTransaction("test", request("blocked")));
+		caller.join(200);
+		assertThat(caller.isAlive()).isTrue();
+
+		releaseFlushes();
+		caller.join(TimeUnit.SECONDS.toMillis(5));
+		assertThat(caller.isAlive()).isFalse();
+		awaitTrue(() -> saved.contains("blocked"));
+		assertThat(count("dropped")).isZero();
+	}
+
+	@Test
+	void spillsOverflowToFileAndReplaysItWithSpillPolicy() throws Exception {
+		start(OverflowPolicy.SPILL, 1);
+		fillQueueWhileFlushIsBlocked();
+
+		transactionLogger.logTransaction("test", request("spilled"));
+
+		assertThat(count("spilled")).isEqualTo(1);
+		assertThat(Files.readAllLines(spillFile())).hasSize(1);
+		releaseFlushes();
+		awaitTrue(() -> saved.contains("spilled") && !Files.exists(spillFile()) && !Files.exists(replayFile()));
+		assertThat(saved).hasSize(2 + CAPACITY);
+	}
+
+	@Test
+	void replaysLeftoverReplayFileBeforeRotatingSpillFile() throws Exception {
+		// 이전 프로세스가 replay 도중 종료되어 남은 파일
+		writeSpilled(replayFile(), "left-1", "left-2");
+		writeSpilled(spillFile(), "spilled-1");
+
+		start(OverflowPolicy.DROP, 10);
+
+		awaitTrue(() -> saved.size() == 3 && !Files.exists(spillFile()) && !Files.exists(replayFile()));
+		assertThat(saved).containsExactly("left-1", "left-2", "spilled-1");
+	}
+
+	@Test
+	void keepsOnlyUnsavedLinesWhenReplayBatchFails() throws Exception {
+		writeSpilled(spillFile(), "a", "b", "c", "d", "e");
+		// 첫 배치(a, b)는 저장, 두 번째 배치(c, d)는 실패 (DROP 정책이어도 버리지 않음)
+		failingFlush = 2;
+
+		start(OverflowPolicy.DROP, 2);
+
+		// 실패 후 다시 시도하기 전 (1초) replay 파일에는 저장하지 못한 줄만 남음
+		awaitTrue(() -> flushes.get() >= 2 && readOrderIds(replayFile()).equals(List.of("c", "d", "e")));
+		assertThat(saved).containsExactly("a", "b");
+		assertThat(count("dropped")).isZero();
+
+		awaitTrue(() -> saved.size() == 5 && !Files.exists(replayFile()));
+		assertThat(saved).containsExactly("a", "b", "c", "d", "e");
+	}
+
+	@Test
+	void tagsFlushLatencyWithPurgeState() throws Exception {
+		start(OverflowPolicy.DROP, 1);
+
+		transactionLogger.logTransaction("test", request("idle"));
+		awaitTrue(() -> flushTimerCount("idle") == 1);
+
+		transactionLogger.setPurgeRunning(true);
+		transactionLogger.logTransaction("test", request("purging"));
+		awaitTrue(() -> flushTimerCount("running") == 1);
+		transactionLogger.setPurgeRunning(false);
+
+		assertThat(flushTimerCount("idle")).isEqualTo(1);
+		assertThat(saved).containsExactly("idle", "purging");
+	}
+
+	private void start(OverflowPolicy policy, int batchSize) {
+		when(logRepository.saveAll(any())).thenAnswer(invocation -> {
+			flushStarted.countDown();
+			if (!flushPermits.tryAcquire(10, TimeUnit.SECONDS)) {
+				throw new IllegalStateException("Flush was not released");
+			}
+			if (flushes.incrementAndGet() == failingFlush) {
+				throw new IllegalStateException("Database unavailable");
+			}
+			List<TransactionLog> logs = invocation.getArgument(0);
+			logs.forEach(transactionLog -> saved.add(transactionLog.getOrderId()));
+			return logs;
+		});
+
+		transactionLogger = new TransactionLogger(logRepository, new DirectTransactionTemplate(), objectMapper,
+				meterRegistry);
+		ReflectionTestUtils.setField(transactionLogger, "capacity", CAPACITY);
+		ReflectionTestUtils.setField(transactionLogger, "batchSize", batchSize);
+		ReflectionTestUtils.setField(transactionLogger, "maxDelayMs", 10L);
+		ReflectionTestUtils.setField(transactionLogger, "overflowPolicy", policy);
+		ReflectionTestUtils.setField(transactionLogger, "spillFilePath", spillFile().toString());
+		transactionLogger.start();
+	}
+
+	/**
+	 * 플러시 스레드가 첫 로그를 저장하다 멈춘 동안 큐를 가득 채움
+	 */
+	private void fillQueueWhileFlushIsBlocked() throws InterruptedException {
+		flushPermits.drainPermits();
+		transactionLogger.logTransaction("test", request("first"));
+		assertThat(flushStarted.await(5, TimeUnit.SECONDS)).isTrue();
+		for (int i = 0; i < CAPACITY; i++) {
+			transactionLogger.logTransaction("test", request("queued-" + i));
+		}
+	}
+
+	private void releaseFlushes() {
+		flushPermits.drainPermits();
+		flushPermits.release(UNBLOCKED);
+	}
+
+	private double count(String outcome) {
+		return meterRegistry.get("transaction.logger.rows").tag("outcome", outcome).counter().count();
+	}
+
+	private long flushTimerCount(String purge) {
+		return meterRegistry.get("transaction.logger.flush").tag("purge", purge).timer().count();
+	}
+
+	private Path spillFile() {
+		return directory.resolve("transaction-logs.spill");
+	}
+
+	private Path replayFile() {
+		return directory.resolve("transaction-logs.spill.replay");
+	}
+
+	private void writeSpilled(Path file, String... orderIds) throws Exception {
+		List<String> lines = new ArrayList<>();
+		for (String orderId : orderIds) {
+			lines.add(objectMapper.writeValueAsString(new Spilled(orderId, "test", null, LocalDateTime.now())));
+		}
+		Files.write(file, lines, StandardCharsets.UTF_8);
+	}
+
+	private List<String> readOrderIds(Path file) {
+		try {
+			List<String> orderIds = new ArrayList<>();
+			for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+				orderIds.add(objectMapper.readValue(line, Spilled.class).orderId());
+			}
+			return orderIds;
+		} catch (Exception e) {
+			return List.of();
+		}
+	}
+
+	private static OrderRequest request(String orderId) {
+		return OrderRequest.builder().orderId(orderId).build();
+	}
+
+	private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+		while (!condition.getAsBoolean()) {
+			assertThat(System.nanoTime()).as("condition not met in time").isLessThan(deadline);
+			Thread.sleep(10);
+		}
+	}
+
+	/**
+	 * spill 파일 한 줄의 형식
+	 */
+	private record Spilled(String orderId, String action, String details, LocalDateTime timestamp) {
+	}
+
+	/**
+	 * 트랜잭션 없이 콜백만 실행
+	 */
+	private static class DirectTransactionTemplate extends TransactionTemplate {
+		@Override
+		public <T> T execute(TransactionCallback<T> action) {
+			return action.doInTransaction(null);
+		}
+	}
+}
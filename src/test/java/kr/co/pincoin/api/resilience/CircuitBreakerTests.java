@@ -0,0 +1,183 @@
+package kr.co.pincoin.api.resilience;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.co.pincoin.api.dto.OrderRequest;
+import kr.co.pincoin.api.enums.CircuitState;
+import kr.co.pincoin.api.exception.CircuitOpenException;
+import kr.co.pincoin.api.exception.ExternalAPIException;
+import kr.co.pincoin.api.external.DummyExternalAPIClient;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CircuitBreakerTests {
+	private static final CircuitBreakerSettings SETTINGS = CircuitBreakerSettings.builder()
+			.windowSize(20)
+			.minimumCalls(10)
+			.failureRateThreshold(50)
+			.slowCallRateThreshold(50)
+			.slowCallDuration(Duration.ofMillis(10))
+			.openDuration(Duration.ofSeconds(10))
+			.halfOpenCalls(3)
+			.build();
+
+	private final AtomicLong clock = new AtomicLong();
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final CircuitBreaker circuitBreaker = new CircuitBreaker("test", SETTINGS, meterRegistry, clock::get);
+
+	@Test
+	void staysClosedWhileDependencyIsHealthy() {
+		DummyExternalAPIClient client = new DummyExternalAPIClient(0.0, 0.0, 0, 0);
+
+		for (int i = 0; i < 100; i++) {
+			circuitBreaker.execute(() -> client.processAsync(OrderRequest.sample()));
+		}
+
+		assertThat(circuitBreaker.getState()).isEqualTo(CircuitState.CLOSED);
+	}
+
+	@Test
+	void opensOnceFailureRateReachesThresholdWithMinimumCalls() {
+		DummyExternalAPIClient client = new DummyExternalAPIClient(1.0, 0.0, 0, 0);
+
+		for (int i = 0; i < SETTINGS.minimumCalls() - 1; i++) {
+			callIgnoringFailure(client);
+		}
+		assertThat(circuitBreaker.getState()).isEqualTo(CircuitState.CLOSED);
+
+		callIgnoringFailure(client);
+		assertThat(circuitBreaker.getState()).isEqualTo(CircuitState.OPEN);
+		assertThat(circuitBreaker.isCallPermitted()).isFalse();
+		assertThatThrownBy(() -> circuitBreaker.execute(() -> client.processAsync(OrderRequest.sample())))
+				.isInstanceOf(CircuitOpenException.class);
+		assertThat(meterRegistry.get("circuit.breaker.transitions").tag("to", "OPEN").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	void opensWhenSlowCallRateReachesThreshold() {
+		CircuitBreaker slowCircuitBreaker = new CircuitBreaker("slow", SETTINGS, meterRegistry);
+		DummyExternalAPIClient client = new DummyExternalAPIClient(0.0, 0.0, 20, 20);
+
+		for (int i = 0; i < SETTINGS.minimumCalls(); i++) {
+			slowCircuitBreaker.execute(() -> client.processAsync(OrderRequest.sample()));
+		}
+
+		assertThat(slowCircuitBreaker.getState()).isEqualTo(CircuitState.OPEN);
+	}
+
+	@Test
+	void closesAfterSuccessfulHalfOpenProbes() {
+		open();
+		DummyExternalAPIClient client = new DummyExternalAPIClient(0.0, 0.0, 0, 0);
+
+		for (int i = 0; i < SETTINGS.halfOpenCalls(); i++) {
+			circuitBreaker.execute(() -> client.processAsync(OrderRequest.sample()));
+			assertThat(circuitBreaker.getState())
+					.isEqualTo(i < SETTINGS.halfOpenCalls() - 1 ? CircuitState.HALF_OPEN : CircuitState.CLOSED);
+		}
+	}
+
+	@Test
+	void reopensWhenHalfOpenProbesFail() {
+		open();
+		DummyExternalAPIClient client = new DummyExternalAPIClient(1.0, 0.0, 0, 0);
+
+		for (int i = 0; i < SETTINGS.halfOpenCalls(); i++) {
+			callIgnoringFailure(client);
+		}
+
+		assertThat(circuitBreaker.getState()).isEqualTo(CircuitState.OPEN);
+		assertThat(circuitBreaker.isCallPermitted()).isFalse();
+	}
+
+	@Test
+	void reopensWhenHalfOpenProbesThrowError() {
+		open();
+
+		for (int i = 0; i < SETTINGS.halfOpenCalls(); i++) {
+			assertThatThrownBy(() -> circuitBreaker.execute(() -> {
+				throw new StackOverflowError();
+			})).isInstanceOf(StackOverflowError.class);
+		}
+
+		assertThat(circuitBreaker.getState()).isEqualTo(CircuitState.OPEN);
+		assertThat(meterRegistry.get("circuit.breaker.calls").tag("outcome", "failure").counter().count())
+				.isEqualTo(SETTINGS.minimumCalls() + SETTINGS.halfOpenCalls());
+	}
+
+	@Test
+	void opensWhenInFlightCallsAreCancelledByDeadline() throws Exception {
+		DummyExternalAPIClient hanging = new DummyExternalAPIClient(0.0, 0.0, 60_000, 60_000);
+
+		try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+			for (int i = 0; i < SETTINGS.minimumCalls(); i++) {
+				cancelInFlight(executor, hanging);
+			}
+		}
+
+		assertThat(circuitBreaker.getState()).isEqualTo(CircuitState.OPEN);
+		assertThat(meterRegistry.get("circuit.breaker.calls").tag("outcome", "cancelled").counter().count())
+				.isEqualTo(SETTINGS.minimumCalls());
+		assertThat(meterRegistry.get("circuit.breaker.calls").tag("outcome", "success").counter().count()).isZero();
+	}
+
+	@Test
+	void cancelledHalfOpenProbeUsesPermitAndReopens() throws Exception {
+		open();
+		DummyExternalAPIClient hanging = new DummyExternalAPIClient(0.0, 0.0, 60_000, 60_000);
+
+		try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+			for (int i = 0; i < SETTINGS.halfOpenCalls(); i++) {
+				cancelInFlight(executor, hanging);
+			}
+		}
+
+		assertThat(circuitBreaker.getState()).isEqualTo(CircuitState.OPEN);
+	}
+
+	/**
+	 * 호출이 시작된 뒤 마감 시각 초과처럼 스레드를 인터럽트하여 취소하고 서킷 브레이커가 결과를 기록할 때까지 대기
+	 */
+	private void cancelInFlight(ExecutorService executor, DummyExternalAPIClient client) throws InterruptedException {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch finished = new CountDownLatch(1);
+		Future<?> call = executor.submit(() -> {
+			try {
+				circuitBreaker.execute(() -> {
+					started.countDown();
+					return client.processAsync(OrderRequest.sample());
+				});
+			} finally {
+				finished.countDown();
+			}
+		});
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+		call.cancel(true);
+		assertThat(finished.await(5, TimeUnit.SECONDS)).isTrue();
+	}
+
+	private void open() {
+		DummyExternalAPIClient failing = new DummyExternalAPIClient(1.0, 0.0, 0, 0);
+		for (int i = 0; i < SETTINGS.minimumCalls(); i++) {
+			callIgnoringFailure(failing);
+		}
+		assertThat(circuitBreaker.getState()).isEqualTo(CircuitState.OPEN);
+		clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+	}
+
+	private void callIgnoringFailure(DummyExternalAPIClient client) {
+		assertThatThrownBy(() -> circuitBreaker.execute(() -> client.processAsync(OrderRequest.sample())))
+				.isInstanceOf(ExternalAPIException.class);
+	}
+}
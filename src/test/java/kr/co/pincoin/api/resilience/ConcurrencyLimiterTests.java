@@ -0,0 +1,111 @@
+package kr.co.pincoin.api.resilience;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrencyLimiterTests {
+	private static final ConcurrencyLimitSettings SETTINGS = ConcurrencyLimitSettings.builder()
+			.initialLimit(20)
+			.minLimit(5)
+			.maxLimit(200)
+			.smoothing(1.0)
+			.backoffRatio(0.9)
+			.probeInterval(500)
+			.build();
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final ConcurrencyLimiter limiter = new ConcurrencyLimiter("test", SETTINGS, meterRegistry);
+
+	@Test
+	void rejectsRequestsOverTheLimit() {
+		for (int i = 0; i < SETTINGS.initialLimit(); i++) {
+			assertThat(limiter.tryAcquire()).isTrue();
+		}
+
+		assertThat(limiter.tryAcquire()).isFalse();
+		assertThat(limiter.getInFlight()).isEqualTo(SETTINGS.initialLimit());
+		assertThat(meterRegistry.get("concurrency.limit.dropped").counter().count()).isEqualTo(1);
+
+		limiter.onIgnored();
+		assertThat(limiter.tryAcquire()).isTrue();
+	}
+
+	@Test
+	void backsOffOnDrops() {
+		for (int i = 0; i < SETTINGS.initialLimit(); i++) {
+			limiter.tryAcquire();
+		}
+
+		limiter.onDropped();
+
+		assertThat(limiter.getLimit()).isEqualTo(18);
+		assertThat(meterRegistry.get("concurrency.limit").gauge().value()).isEqualTo(18);
+	}
+
+	/**
+	 * 더미 외부 API의 지연시간과 동시 처리 능력을 바꿔 가며 포화 부하를 걸었을 때 한도가 따라가는지 확인
+	 */
+	@Test
+	void limitTracksDownstreamLatency() {
+		SimulatedProvider provider = new SimulatedProvider();
+
+		// 정상: 100ms, 동시 20건 처리
+		provider.configure(100, 20);
+		int healthyLimit = provider.drive(limiter, 3_000);
+		assertThat(healthyLimit).isBetween(20, 35);
+
+		// 지연 증가: 500ms, 동시 10건 처리
+		provider.configure(500, 10);
+		int degradedLimit = provider.drive(limiter, 3_000);
+		assertThat(degradedLimit).isBetween(SETTINGS.minLimit(), 20).isLessThan(healthyLimit);
+
+		// 회복
+		provider.configure(100, 20);
+		assertThat(provider.drive(limiter, 3_000)).isBetween(20, 35);
+	}
+
+	/**
+	 * 동시 처리 능력을 넘는 요청은 대기열에서 기다리는 하위 서비스 모델
+	 * 처리 중인 요청이 n건이면 응답 시간은 latency × max(1, n / capacity)
+	 */
+	private static class SimulatedProvider {
+		private long latencyNanos;
+
+		private int capacity;
+
+		private int inFlight;
+
+		void configure(long latencyMs, int capacity) {
+			this.latencyNanos = TimeUnit.MILLISECONDS.toNanos(latencyMs);
+			this.capacity = capacity;
+		}
+
+		/**
+		 * 한도가 허용하는 만큼 요청을 채운 뒤 한 건씩 완료시키는 포화 부하
+		 *
+		 * @return 후반부 완료 시점 한도의 중앙값 (무부하 지연시간 재측정 중 잠시 낮아지는 한도는 제외)
+		 */
+		int drive(ConcurrencyLimiter limiter, int completions) {
+			int[] limits = new int[completions / 2];
+			for (int i = 0; i < completions; i++) {
+				while (limiter.tryAcquire()) {
+					inFlight++;
+				}
+				long rtt = (long) (latencyNanos * Math.max(1.0, (double) inFlight / capacity));
+				limiter.onSuccess(rtt);
+				inFlight--;
+				if (i >= completions - limits.length) {
+					limits[i - (completions - limits.length)] = limiter.getLimit();
+				}
+			}
+			Arrays.sort(limits);
+			return limits[limits.length / 2];
+		}
+	}
+}
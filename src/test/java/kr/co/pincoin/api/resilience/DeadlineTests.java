@@ -0,0 +1,76 @@
+package kr.co.pincoin.api.resilience;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.co.pincoin.api.exception.DeadlineExceededException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DeadlineTests {
+	private final Bulkhead bulkhead = new Bulkhead("test", 1, 1, false, new SimpleMeterRegistry());
+
+	@AfterEach
+	void shutdown() {
+		bulkhead.shutdown();
+	}
+
+	@Test
+	void interruptsWorkerWhenDeadlineExceeded() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch interrupted = new CountDownLatch(1);
+		AtomicBoolean finished = new AtomicBoolean();
+
+		CompletableFuture<String> call = bulkhead.supplyAsync(() -> {
+			started.countDown();
+			try {
+				Thread.sleep(5_000);
+				finished.set(true);
+				return "late";
+			} catch (InterruptedException e) {
+				interrupted.countDown();
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(e);
+			}
+		});
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+		CompletableFuture<String> bounded = Deadline.after(Duration.ofMillis(50)).bound(call, "test");
+
+		assertThatThrownBy(() -> bounded.get(5, TimeUnit.SECONDS))
+				.isInstanceOf(ExecutionException.class)
+				.hasCauseInstanceOf(DeadlineExceededException.class);
+		assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(call.isCancelled()).isTrue();
+		assertThat(finished).isFalse();
+		// 취소된 호출의 자리는 반납됨
+		assertThat(bulkhead.supplyAsync(() -> "next").get(5, TimeUnit.SECONDS)).isEqualTo("next");
+	}
+
+	@Test
+	void expiredDeadlineFailsWithoutWaiting() {
+		Deadline deadline = Deadline.after(Duration.ZERO);
+		CompletableFuture<String> call = new CompletableFuture<>();
+
+		assertThat(deadline.isExpired()).isTrue();
+		assertThat(deadline.bound(call, "test")).isCompletedExceptionally();
+		assertThat(call.isCancelled()).isTrue();
+		assertThatThrownBy(() -> deadline.check("test")).isInstanceOf(DeadlineExceededException.class);
+	}
+
+	@Test
+	void noneNeverExpires() {
+		CompletableFuture<String> call = new CompletableFuture<>();
+
+		assertThat(Deadline.none().isExpired()).isFalse();
+		assertThat(Deadline.none().bound(call, "test")).isSameAs(call);
+	}
+}
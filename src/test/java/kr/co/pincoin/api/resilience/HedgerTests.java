@@ -0,0 +1,120 @@
+package kr.co.pincoin.api.resilience;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HedgerTests {
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final Bulkhead bulkhead = new Bulkhead("test", 4, 4, false, meterRegistry);
+
+	private Hedger hedger;
+
+	@AfterEach
+	void shutdown() {
+		hedger.shutdown();
+		bulkhead.shutdown();
+	}
+
+	@Test
+	void slowPrimaryIsHedgedAndLoserCancelled() throws Exception {
+		hedger = warmedUpHedger(1.0);
+		CountDownLatch releasePrimary = new CountDownLatch(1);
+		CompletableFuture<String> cancelled = new CompletableFuture<>();
+
+		CompletableFuture<String> result = hedger.execute(slowFirstAttempt(releasePrimary), cancelled::complete);
+
+		assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("hedge");
+		releasePrimary.countDown();
+		assertThat(cancelled.get(5, TimeUnit.SECONDS)).isEqualTo("primary");
+		assertThat(meterRegistry.get("hedge.attempts").counter().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("hedge.wins").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	void doesNotHedgeWithoutBudget() throws Exception {
+		hedger = warmedUpHedger(0.0);
+		CountDownLatch releasePrimary = new CountDownLatch(1);
+
+		CompletableFuture<String> result = hedger.execute(slowFirstAttempt(releasePrimary), loser -> {
+		});
+		Thread.sleep(50);
+		releasePrimary.countDown();
+
+		assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("primary");
+		assertThat(meterRegistry.get("hedge.attempts").counter().count()).isZero();
+		assertThat(meterRegistry.get("hedge.budget.exhausted").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	void doesNotHedgeAfterPrimaryFailed() {
+		// 바로 실패하는 첫 호출이 헤지 대기 시간(20ms)보다 늦게 끝나지 않도록 대기 시간을 늘림
+		hedger = warmedUpHedger(1.0, Duration.ofMillis(20));
+		AtomicInteger attempts = new AtomicInteger();
+
+		// 첫 호출이 헤지 예약과 경합하며 바로 실패하는 경우를 여러 번 반복
+		for (int i = 0; i < 200; i++) {
+			CompletableFuture<String> result = hedger.execute(() -> {
+				attempts.incrementAndGet();
+				throw new IllegalStateException("rejected");
+			}, loser -> {
+			});
+			assertThatThrownBy(result::join).hasCauseInstanceOf(IllegalStateException.class);
+		}
+
+		assertThat(attempts).hasValue(200);
+		assertThat(meterRegistry.get("hedge.attempts").counter().count()).isZero();
+	}
+
+	private Hedger warmedUpHedger(double budgetRatio) {
+		return warmedUpHedger(budgetRatio, Duration.ofMillis(1));
+	}
+
+	/**
+	 * 빠른 호출로 지연시간 표본을 채워 헤지 대기 시간을 최소값으로 맞춘 실행기
+	 */
+	private Hedger warmedUpHedger(double budgetRatio, Duration minDelay) {
+		Hedger warmed = new Hedger("test", HedgeSettings.builder()
+				.enabled(true)
+				.percentile(0.5)
+				.minDelay(minDelay)
+				.budgetRatio(budgetRatio)
+				.windowSize(10)
+				.minSamples(10)
+				.build(), bulkhead, meterRegistry);
+		for (int i = 0; i < 10; i++) {
+			warmed.execute(() -> "warm-up", loser -> {
+			}).join();
+		}
+		return warmed;
+	}
+
+	/**
+	 * 첫 호출은 latch가 열릴 때까지 응답하지 않고, 두 번째 호출은 바로 응답
+	 */
+	private static Supplier<String> slowFirstAttempt(CountDownLatch releasePrimary) {
+		AtomicInteger attempts = new AtomicInteger();
+		return () -> {
+			if (attempts.incrementAndGet() > 1) {
+				return "hedge";
+			}
+			try {
+				releasePrimary.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return "primary";
+		};
+	}
+}
@@ -0,0 +1,102 @@
+package kr.co.pincoin.api.resilience;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.co.pincoin.api.exception.CircuitOpenException;
+import kr.co.pincoin.api.exception.ExternalAPIException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RetrierTests {
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private Retrier retrier;
+
+	@AfterEach
+	void shutdown() {
+		retrier.shutdown();
+	}
+
+	@Test
+	void retriesTransientFailuresUntilSuccess() throws Exception {
+		retrier = retrier(1.0);
+		AtomicInteger attempts = new AtomicInteger();
+
+		CompletableFuture<String> result = retrier.execute(() -> attempts.incrementAndGet() < 3
+				? CompletableFuture.failedFuture(new ExternalAPIException("transient"))
+				: CompletableFuture.completedFuture("ok"), Deadline.none());
+
+		assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("ok");
+		assertThat(attempts).hasValue(3);
+		assertThat(meterRegistry.get("retry.retries").counter().count()).isEqualTo(2);
+		assertThat(meterRegistry.get("retry.attempts").summary().max()).isEqualTo(3);
+	}
+
+	@Test
+	void doesNotRetryExceptionsWithoutPolicy() {
+		retrier = retrier(1.0);
+		AtomicInteger attempts = new AtomicInteger();
+
+		CompletableFuture<String> result = retrier.execute(() -> {
+			attempts.incrementAndGet();
+			return CompletableFuture.failedFuture(new CircuitOpenException("open"));
+		}, Deadline.none());
+
+		assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+				.isInstanceOf(ExecutionException.class)
+				.hasCauseInstanceOf(CircuitOpenException.class);
+		assertThat(attempts).hasValue(1);
+	}
+
+	@Test
+	void budgetLimitsRetriesDuringOutage() {
+		retrier = retrier(0.1);
+
+		for (int i = 0; i < 100; i++) {
+			retrier.execute(() -> CompletableFuture.failedFuture(new ExternalAPIException("down")), Deadline.none())
+					.exceptionally(e -> null)
+					.join();
+		}
+
+		// 처음 적립된 2건 + 호출 100건 × 0.1
+		assertThat(meterRegistry.get("retry.retries").counter().count()).isBetween(10.0, 12.0);
+		assertThat(meterRegistry.get("retry.suppressed").tag("reason", "budget").counter().count()).isGreaterThan(80);
+	}
+
+	@Test
+	void stopsRetryingWhenDeadlineWouldPass() {
+		retrier = retrier(1.0);
+		AtomicInteger attempts = new AtomicInteger();
+
+		CompletableFuture<String> result = retrier.execute(() -> {
+			attempts.incrementAndGet();
+			return CompletableFuture.failedFuture(new ExternalAPIException("down"));
+		}, Deadline.after(Duration.ofMillis(5)));
+
+		assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(ExternalAPIException.class);
+		assertThat(attempts).hasValue(1);
+		assertThat(meterRegistry.get("retry.suppressed").tag("reason", "deadline").counter().count()).isEqualTo(1);
+	}
+
+	/**
+	 * 최대 3회 시도, 대기 시간 10~50ms
+	 */
+	private Retrier retrier(double budgetRatio) {
+		return new Retrier("test", RetrySettings.builder()
+				.policies(List.of(
+						RetryPolicy.never(CircuitOpenException.class),
+						RetryPolicy.retry(ExternalAPIException.class, 3, Duration.ofMillis(10), Duration.ofMillis(50))))
+				.budgetRatio(budgetRatio)
+				.budgetBurst(2)
+				.build(), meterRegistry);
+	}
+}
@@ -0,0 +1,162 @@
+package kr.co.pincoin.api.saga;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.co.pincoin.api.entity.SagaState;
+import kr.co.pincoin.api.enums.SagaStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SagaEngineTests {
+	private final Queue<String> calls = new ConcurrentLinkedQueue<>();
+
+	private final RecordingSagaStateStore sagaStateStore = new RecordingSagaStateStore();
+
+	private final SagaEngine sagaEngine = new SagaEngine(sagaStateStore, new ObjectMapper(), Runnable::run,
+			new SimpleMeterRegistry());
+
+	@Test
+	void compensatesOnlyCompletedInFlightStepWhenNextStepIsNotResumable() {
+		// 1번 단계가 커밋된 뒤 다음 전이를 기록하기 전에 중단된 경우 (2번 단계는 시작되지 않음)
+		register(true, false, false);
+
+		SagaStatus status = sagaEngine.recover(sagaState(SagaStatus.RUNNING, 0)).join();
+
+		assertThat(status).isEqualTo(SagaStatus.COMPENSATED);
+		assertThat(calls).containsExactly("check:first", "compensate:first");
+		assertThat(sagaStateStore.statuses).containsExactly(SagaStatus.COMPENSATING, SagaStatus.COMPENSATED);
+	}
+
+	@Test
+	void compensatesInFlightStepWhenItsOutcomeIsUnknown() {
+		register(false, false, false);
+
+		SagaStatus status = sagaEngine.recover(sagaState(SagaStatus.RUNNING, 1)).join();
+
+		assertThat(status).isEqualTo(SagaStatus.COMPENSATED);
+		assertThat(calls).containsExactly("compensate:second", "compensate:first");
+	}
+
+	@Test
+	void resumesWhenRemainingStepsAreResumable() {
+		register(false, false, false);
+
+		SagaStatus status = sagaEngine.recover(sagaState(SagaStatus.RUNNING, 2)).join();
+
+		assertThat(status).isEqualTo(SagaStatus.COMPLETED);
+		assertThat(calls).containsExactly("check:third", "run:third");
+		assertThat(sagaStateStore.statuses).containsExactly(SagaStatus.COMPLETED);
+	}
+
+	@Test
+	void completesWithoutRerunningWhenLastStepAlreadyCompleted() {
+		register(false, false, true);
+
+		SagaStatus status = sagaEngine.recover(sagaState(SagaStatus.RUNNING, 2)).join();
+
+		assertThat(status).isEqualTo(SagaStatus.COMPLETED);
+		assertThat(calls).containsExactly("check:third");
+	}
+
+	@Test
+	void continuesCompensationFromRecordedStep() {
+		register(true, false, false);
+
+		SagaStatus status = sagaEngine.recover(sagaState(SagaStatus.COMPENSATING, 1)).join();
+
+		assertThat(status).isEqualTo(SagaStatus.COMPENSATED);
+		assertThat(calls).containsExactly("compensate:second", "compensate:first");
+	}
+
+	@Test
+	void reportsCompensationFailureAndRunsRemainingCompensations() {
+		SagaStep<TestContext> failing = SagaStep.<TestContext>builder()
+				.name("second")
+				.action(context -> calls.add("run:second"))
+				.compensation(context -> {
+					calls.add("compensate:second");
+					throw new IllegalStateException("cancellation rejected");
+				})
+				.build();
+		sagaEngine.register(SagaDefinition.of("test", TestContext.class, step("first", false, false), failing));
+
+		SagaStatus status = sagaEngine.recover(sagaState(SagaStatus.COMPENSATING, 1)).join();
+
+		assertThat(status).isEqualTo(SagaStatus.COMPENSATION_FAILED);
+		assertThat(calls).containsExactly("compensate:second", "compensate:first");
+	}
+
+	/**
+	 * 보상이 있는 critical 단계 first, second와 복구 시 이어서 실행할 수 있는 third로 구성된 사가 등록
+	 */
+	private void register(boolean firstCompleted, boolean secondCompleted, boolean thirdCompleted) {
+		SagaStep<TestContext> third = SagaStep.<TestContext>builder()
+				.name("third")
+				.action(context -> calls.add("run:third"))
+				.completionCheck(context -> {
+					calls.add("check:third");
+					return thirdCompleted;
+				})
+				.resumable(true)
+				.build();
+		sagaEngine.register(SagaDefinition.of("test", TestContext.class,
+				step("first", true, firstCompleted), step("second", false, secondCompleted), third));
+	}
+
+	private SagaStep<TestContext> step(String name, boolean checked, boolean completed) {
+		return SagaStep.<TestContext>builder()
+				.name(name)
+				.action(context -> calls.add("run:" + name))
+				.compensation(context -> calls.add("compensate:" + name))
+				.completionCheck(checked || completed ? context -> {
+					calls.add("check:" + name);
+					return completed;
+				} : null)
+				.build();
+	}
+
+	private static SagaState sagaState(SagaStatus status, int stepIndex) {
+		return SagaState.builder()
+				.id(1L)
+				.sagaType("test")
+				.sagaKey("order-1")
+				.status(status)
+				.stepIndex(stepIndex)
+				.payload("{\"key\":\"order-1\"}")
+				.build();
+	}
+
+	record TestContext(String key) {
+	}
+
+	/**
+	 * DB 없이 사가 상태 변경만 기록하는 저장소
+	 */
+	private static class RecordingSagaStateStore extends SagaStateStore {
+		private final List<SagaStatus> statuses = new ArrayList<>();
+
+		RecordingSagaStateStore() {
+			super(null);
+		}
+
+		@Override
+		public Long begin(String sagaType, String sagaKey, String firstStepName, String payload) {
+			return 1L;
+		}
+
+		@Override
+		public void advance(Long sagaId, int stepIndex, String stepName, String payload) {
+		}
+
+		@Override
+		public void updateStatus(Long sagaId, SagaStatus status) {
+			statuses.add(status);
+		}
+	}
+}
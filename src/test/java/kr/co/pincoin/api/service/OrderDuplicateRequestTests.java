@@ -0,0 +1,94 @@
+package kr.co.pincoin.api.service;
+
+import kr.co.pincoin.api.dto.APIResponse;
+import kr.co.pincoin.api.dto.OrderRequest;
+import kr.co.pincoin.api.dto.OrderResult;
+import kr.co.pincoin.api.entity.Order;
+import kr.co.pincoin.api.entity.Payment;
+import kr.co.pincoin.api.enums.OrderStatus;
+import kr.co.pincoin.api.exception.DuplicateOrderException;
+import kr.co.pincoin.api.exception.OrderProcessingException;
+import kr.co.pincoin.api.repository.OrderRepository;
+import kr.co.pincoin.api.repository.PaymentRepository;
+import kr.co.pincoin.api.resilience.Deadline;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 멱등 캐시에 없는 중복 요청 (재시작, 캐시 제거 이후) 은 저장된 결과로 응답
+ */
+@SpringBootTest
+class OrderDuplicateRequestTests {
+	@Autowired
+	private OrderFacade orderFacade;
+
+	@Autowired
+	private OrderProcessingService orderProcessingService;
+
+	@Autowired
+	private OrderRepository orderRepository;
+
+	@Autowired
+	private PaymentRepository paymentRepository;
+
+	@ParameterizedTest
+	@ValueSource(strings = {"facade", "transaction-script"})
+	void returnsStoredResultOfCompletedOrder(String sagaType) {
+		OrderRequest request = OrderRequest.sample();
+		orderRepository.save(Order.from(request));
+		paymentRepository.save(Payment.from(request, APIResponse.builder()
+				.referenceId("ref-1")
+				.status("APPROVED")
+				.timestamp(LocalDateTime.now())
+				.build()));
+
+		OrderResult result = process(sagaType, request).join();
+
+		assertThat(result.getStatus()).isEqualTo(OrderStatus.COMPLETED);
+		assertThat(result.getReferenceId()).isEqualTo("ref-1");
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"facade", "transaction-script"})
+	void returnsStoredFailureOfFailedOrder(String sagaType) {
+		OrderRequest request = OrderRequest.sample();
+		Order order = Order.from(request);
+		order.fail();
+		orderRepository.save(order);
+
+		OrderResult result = process(sagaType, request).join();
+
+		assertThat(result.getStatus()).isEqualTo(OrderStatus.FAILED);
+		assertThat(orderRepository.findByOrderId(request.getOrderId()).orElseThrow().getStatus())
+				.isEqualTo(OrderStatus.FAILED);
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"facade", "transaction-script"})
+	void rejectsDuplicateOfOrderInProgress(String sagaType) {
+		OrderRequest request = OrderRequest.sample();
+		orderRepository.save(Order.from(request));
+
+		assertThatThrownBy(() -> process(sagaType, request).join())
+				.isInstanceOf(CompletionException.class)
+				.hasCauseInstanceOf(OrderProcessingException.class)
+				.satisfies(e -> assertThat(e.getCause()).hasCauseInstanceOf(DuplicateOrderException.class));
+	}
+
+	private CompletableFuture<OrderResult> process(String sagaType, OrderRequest request) {
+		Deadline deadline = Deadline.after(Duration.ofSeconds(10));
+		return sagaType.equals("facade")
+				? orderFacade.processOrderAsync(request, deadline)
+				: orderProcessingService.processOrderAsync(request, deadline);
+	}
+}
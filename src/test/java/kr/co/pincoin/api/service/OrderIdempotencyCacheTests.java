@@ -0,0 +1,143 @@
+package kr.co.pincoin.api.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.co.pincoin.api.dto.OrderResult;
+import kr.co.pincoin.api.enums.OrderStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderIdempotencyCacheTests {
+	private static final int CAPACITY = 2;
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final OrderIdempotencyCache idempotencyCache = new OrderIdempotencyCache(meterRegistry);
+
+	private final AtomicInteger pipelineRuns = new AtomicInteger();
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(idempotencyCache, "capacity", CAPACITY);
+		idempotencyCache.registerMetrics();
+	}
+
+	@Test
+	void runsPipelineOnceForConcurrentDuplicatesAndSharesResult() throws Exception {
+		int callers = 8;
+		CompletableFuture<OrderResult> pending = new CompletableFuture<>();
+		CountDownLatch ready = new CountDownLatch(callers);
+		CountDownLatch go = new CountDownLatch(1);
+
+		List<Future<CompletableFuture<OrderResult>>> calls = new ArrayList<>();
+		try (ExecutorService executor = Executors.newFixedThreadPool(callers)) {
+			for (int i = 0; i < callers; i++) {
+				calls.add(executor.submit(() -> {
+					ready.countDown();
+					go.await();
+					return idempotencyCache.execute("order-1", pipeline(() -> pending));
+				}));
+			}
+			ready.await();
+			go.countDown();
+		}
+
+		OrderResult result = result("order-1");
+		pending.complete(result);
+
+		assertThat(pipelineRuns).hasValue(1);
+		for (Future<CompletableFuture<OrderResult>> call : calls) {
+			assertThat(call.get().join()).isSameAs(result);
+		}
+		assertThat(count("miss")).isEqualTo(1);
+		assertThat(count("coalesced")).isEqualTo(callers - 1);
+	}
+
+	@Test
+	void returnsRememberedResultWithoutRunningPipelineAgain() {
+		OrderResult result = result("order-1");
+		idempotencyCache.execute("order-1", pipeline(() -> CompletableFuture.completedFuture(result))).join();
+
+		OrderResult repeated = idempotencyCache.execute("order-1", pipeline(() -> CompletableFuture.completedFuture(null)))
+				.join();
+
+		assertThat(repeated).isSameAs(result);
+		assertThat(pipelineRuns).hasValue(1);
+		assertThat(count("hit")).isEqualTo(1);
+	}
+
+	@Test
+	void runsPipelineAgainAfterFailure() {
+		CompletableFuture<OrderResult> failed = idempotencyCache.execute("order-1",
+				pipeline(() -> CompletableFuture.failedFuture(new IllegalStateException("external API failed"))));
+		assertThatThrownBy(failed::join).isInstanceOf(CompletionException.class)
+				.hasCauseInstanceOf(IllegalStateException.class);
+
+		OrderResult result = result("order-1");
+		OrderResult retried = idempotencyCache.execute("order-1", pipeline(() -> CompletableFuture.completedFuture(result)))
+				.join();
+
+		assertThat(retried).isSameAs(result);
+		assertThat(pipelineRuns).hasValue(2);
+		assertThat(count("miss")).isEqualTo(2);
+	}
+
+	@Test
+	void cancellingOneCallerDoesNotCancelSharedProcessing() {
+		CompletableFuture<OrderResult> pending = new CompletableFuture<>();
+		CompletableFuture<OrderResult> first = idempotencyCache.execute("order-1", pipeline(() -> pending));
+		CompletableFuture<OrderResult> duplicate = idempotencyCache.execute("order-1", pipeline(() -> pending));
+
+		duplicate.cancel(true);
+		OrderResult result = result("order-1");
+		pending.complete(result);
+
+		assertThat(pending).isNotCancelled();
+		assertThat(first.join()).isSameAs(result);
+		assertThat(pipelineRuns).hasValue(1);
+	}
+
+	@Test
+	void evictsEarliestCompletedResultBeyondCapacity() {
+		for (int i = 0; i <= CAPACITY; i++) {
+			String orderId = "order-" + i;
+			idempotencyCache.execute(orderId, pipeline(() -> CompletableFuture.completedFuture(result(orderId)))).join();
+		}
+
+		idempotencyCache.execute("order-0", pipeline(() -> CompletableFuture.completedFuture(result("order-0")))).join();
+		idempotencyCache.execute("order-" + CAPACITY, pipeline(() -> CompletableFuture.completedFuture(null))).join();
+
+		assertThat(pipelineRuns).hasValue(CAPACITY + 2);
+		assertThat(count("hit")).isEqualTo(1);
+		assertThat(meterRegistry.get("order.idempotency.size").gauge().value()).isEqualTo(CAPACITY);
+	}
+
+	private Supplier<CompletableFuture<OrderResult>> pipeline(Supplier<CompletableFuture<OrderResult>> pipeline) {
+		return () -> {
+			pipelineRuns.incrementAndGet();
+			return pipeline.get();
+		};
+	}
+
+	private double count(String outcome) {
+		return meterRegistry.get("order.idempotency.requests").tag("outcome", outcome).counter().count();
+	}
+
+	private static OrderResult result(String orderId) {
+		return OrderResult.builder().orderId(orderId).status(OrderStatus.COMPLETED).build();
+	}
+}
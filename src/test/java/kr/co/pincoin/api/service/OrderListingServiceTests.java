@@ -0,0 +1,92 @@
+package kr.co.pincoin.api.service;
+
+import kr.co.pincoin.api.dto.KeysetCursor;
+import kr.co.pincoin.api.dto.KeysetPage;
+import kr.co.pincoin.api.dto.OrderRequest;
+import kr.co.pincoin.api.dto.OrderSummary;
+import kr.co.pincoin.api.entity.Order;
+import kr.co.pincoin.api.enums.OrderStatus;
+import kr.co.pincoin.api.repository.OrderRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 생성 시각이 같은 주문이 페이지 경계에 걸쳐 있어도 빠지거나 중복되지 않는지 확인
+ */
+@SpringBootTest
+class OrderListingServiceTests {
+	private static final int PAGE_SIZE = 2;
+
+	@Autowired
+	private OrderListingService orderListingService;
+
+	@Autowired
+	private OrderRepository orderRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void pagesThroughOrdersSharingCreatedAt() {
+		// 다른 테스트의 주문보다 뒤의 시각으로 맞춰 목록의 맨 앞에 오도록 함
+		LocalDateTime createdAt = LocalDateTime.of(2999, 1, 1, 0, 0);
+		List<Long> ids = saveOrdersCreatedAt(createdAt, 5, OrderStatus.CREATED);
+
+		List<Long> listed = listIdsCreatedAt(null, createdAt, ids.size());
+
+		assertThat(listed).isEqualTo(ids.stream().sorted(Comparator.reverseOrder()).toList());
+	}
+
+	@Test
+	void pagesThroughOrdersSharingCreatedAtFilteredByStatus() {
+		LocalDateTime createdAt = LocalDateTime.of(2998, 1, 1, 0, 0);
+		List<Long> failed = saveOrdersCreatedAt(createdAt, 3, OrderStatus.FAILED);
+		saveOrdersCreatedAt(createdAt, 2, OrderStatus.CREATED);
+
+		List<Long> listed = listIdsCreatedAt(OrderStatus.FAILED, createdAt, failed.size());
+
+		assertThat(listed).isEqualTo(failed.stream().sorted(Comparator.reverseOrder()).toList());
+	}
+
+	private List<Long> saveOrdersCreatedAt(LocalDateTime createdAt, int count, OrderStatus status) {
+		List<Long> ids = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			Order order = Order.from(OrderRequest.sample());
+			if (status == OrderStatus.FAILED) {
+				order.fail();
+			}
+			ids.add(orderRepository.save(order).getId());
+		}
+		// 저장 시각은 @PrePersist가 정하므로 저장 후 같은 시각으로 변경
+		for (Long id : ids) {
+			jdbcTemplate.update("update orders set created_at = ? where id = ?", createdAt, id);
+		}
+		return ids;
+	}
+
+	/**
+	 * createdAt 위치부터 페이지를 이어 조회하며 해당 시각의 주문 식별자를 count건까지 수집
+	 */
+	private List<Long> listIdsCreatedAt(OrderStatus status, LocalDateTime createdAt, int count) {
+		List<Long> listed = new ArrayList<>();
+		String cursor = new KeysetCursor(createdAt, Long.MAX_VALUE).encode();
+		while (cursor != null && listed.size() < count) {
+			KeysetPage<OrderSummary> page = orderListingService.findOrders(status, cursor, PAGE_SIZE);
+			assertThat(page.items()).hasSizeLessThanOrEqualTo(PAGE_SIZE);
+			page.items().stream()
+					.filter(summary -> summary.createdAt().equals(createdAt))
+					.forEach(summary -> listed.add(summary.id()));
+			cursor = page.nextCursor();
+		}
+		return listed;
+	}
+}
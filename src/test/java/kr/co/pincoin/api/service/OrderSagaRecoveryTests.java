@@ -0,0 +1,74 @@
+package kr.co.pincoin.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.co.pincoin.api.dto.OrderRequest;
+import kr.co.pincoin.api.dto.OrderSagaContext;
+import kr.co.pincoin.api.entity.Order;
+import kr.co.pincoin.api.enums.OrderStatus;
+import kr.co.pincoin.api.enums.OrderStep;
+import kr.co.pincoin.api.enums.SagaStatus;
+import kr.co.pincoin.api.repository.OrderRepository;
+import kr.co.pincoin.api.repository.SagaStateRepository;
+import kr.co.pincoin.api.resilience.Deadline;
+import kr.co.pincoin.api.saga.SagaEngine;
+import kr.co.pincoin.api.saga.SagaStateStore;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 저장이 커밋된 뒤 사가 문맥에 식별자를 기록하기 전에 중단된 주문 사가의 복구
+ */
+@SpringBootTest
+class OrderSagaRecoveryTests {
+	@Autowired
+	private SagaEngine sagaEngine;
+
+	@Autowired
+	private SagaStateStore sagaStateStore;
+
+	@Autowired
+	private SagaStateRepository sagaStateRepository;
+
+	@Autowired
+	private OrderRepository orderRepository;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@ParameterizedTest
+	@ValueSource(strings = {"facade", "transaction-script"})
+	void failsOrderCreatedBeforeCrashWithoutRecordedOrderPk(String sagaType) throws Exception {
+		OrderRequest request = OrderRequest.sample();
+		OrderSagaContext context = OrderSagaContext.of(request, Deadline.none());
+		Long sagaId = sagaStateStore.begin(sagaType, request.getOrderId(), OrderStep.CREATE_ORDER.name(),
+				objectMapper.writeValueAsString(context));
+		Order order = orderRepository.save(Order.from(request));
+
+		SagaStatus status = sagaEngine.recover(sagaStateRepository.findById(sagaId).orElseThrow()).join();
+
+		assertThat(status).isEqualTo(SagaStatus.COMPENSATED);
+		assertThat(orderRepository.findById(order.getId()).orElseThrow().getStatus()).isEqualTo(OrderStatus.FAILED);
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"facade", "transaction-script"})
+	void keepsOrderOfEarlierRequestWithSameOrderId(String sagaType) throws Exception {
+		OrderRequest request = OrderRequest.sample();
+		Order earlier = orderRepository.save(Order.from(request));
+		OrderSagaContext context = OrderSagaContext.of(request, Deadline.none());
+		context.setStartedAt(LocalDateTime.now().plusSeconds(1));
+		Long sagaId = sagaStateStore.begin(sagaType, request.getOrderId(), OrderStep.CREATE_ORDER.name(),
+				objectMapper.writeValueAsString(context));
+
+		SagaStatus status = sagaEngine.recover(sagaStateRepository.findById(sagaId).orElseThrow()).join();
+
+		assertThat(status).isEqualTo(SagaStatus.COMPENSATED);
+		assertThat(orderRepository.findById(earlier.getId()).orElseThrow().getStatus()).isEqualTo(OrderStatus.CREATED);
+	}
+}